@@ -0,0 +1,70 @@
+package org.truBlog.benchmarks;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.truBlog.TruBlogApp;
+
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+
+final class BenchmarkContexts {
+
+    private static final String MONGO_PROPERTY = "trublog.benchmarks.mongo";
+
+    private static MongoServer inMemoryMongo;
+
+    private BenchmarkContexts() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(TruBlogApp.class)
+                .web(WebApplicationType.NONE)
+                .properties("trublog.rate-limits.enabled=false", "trublog.node-id=benchmark")
+                .properties(mongoProperties())
+                .properties(properties)
+                .initializers(context -> ((DefaultListableBeanFactory) context.getBeanFactory()).registerDisposableBean("inMemoryMongo", BenchmarkContexts::stopInMemoryMongo))
+                .run();
+    }
+
+    private static String[] mongoProperties() {
+        String mongo = System.getProperty(MONGO_PROPERTY, "embedded");
+        if (mongo.equals("embedded")) return new String[0];
+        String uri = mongo.equals("in-memory") ? inMemoryMongoUri() : mongo;
+        return new String[]{"spring.autoconfigure.exclude=de.flapdoodle.embed.mongo.spring.autoconfigure.EmbeddedMongoAutoConfiguration", "spring.data.mongodb.uri=" + uri};
+    }
+
+    private static synchronized String inMemoryMongoUri() {
+        if (inMemoryMongo == null) {
+            inMemoryMongo = new MongoServer(new MemoryBackend());
+            inMemoryMongo.bind("127.0.0.1", 0);
+        }
+        InetSocketAddress address = inMemoryMongo.getLocalAddress();
+        return String.format("mongodb://%s:%d/truBlog", address.getHostString(), address.getPort());
+    }
+
+    private static synchronized void stopInMemoryMongo() {
+        if (inMemoryMongo == null) return;
+        inMemoryMongo.shutdownNow();
+        inMemoryMongo = null;
+    }
+
+    static ConfigurableApplicationContext startComponents(Class<?>[] componentClasses, String... properties) {
+        Map<String, Object> values = new HashMap<>();
+        for (String property : properties) {
+            int separator = property.indexOf('=');
+            values.put(property.substring(0, separator), property.substring(separator + 1));
+        }
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", values));
+        context.register(componentClasses);
+        context.refresh();
+        return context;
+    }
+}
@@ -0,0 +1,74 @@
+package org.truBlog.benchmarks;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheLoadBenchmark {
+
+    @Param({"500"})
+    private int burst;
+
+    @Param({"1"})
+    private long loadMillis;
+
+    private ExecutorService loadExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loadExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int loaderInsideCompute() throws Exception {
+        Cache<String, String> cache = Caffeine.newBuilder().build();
+        return burst(key -> cache.get(key, this::load));
+    }
+
+    @Benchmark
+    public int loaderOutsideCompute() throws Exception {
+        AsyncCache<String, String> cache = Caffeine.newBuilder().executor(loadExecutor).buildAsync();
+        return burst(key -> cache.get(key, (missingKey, executor) -> CompletableFuture.supplyAsync(() -> load(missingKey), executor)).join());
+    }
+
+    private int burst(Function<String, String> lookup) throws InterruptedException, ExecutionException {
+        int loaded = 0;
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> results = new ArrayList<>(burst);
+            for (int request = 0; request < burst; request++) {
+                String key = "user" + request;
+                results.add(requests.submit(() -> lookup.apply(key)));
+            }
+            for (Future<String> result : results) loaded += result.get().length();
+        }
+        return loaded;
+    }
+
+    private String load(String key) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(loadMillis));
+        return key;
+    }
+}
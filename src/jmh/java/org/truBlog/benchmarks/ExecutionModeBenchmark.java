@@ -0,0 +1,102 @@
+package org.truBlog.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.truBlog.data.repositories.CommentRepository;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.PostViewCountRepository;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.data.repositories.ViewRepository;
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.services.UserService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int PLATFORM_WORKERS = 200;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"200", "2000", "10000"})
+    public int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService executorService;
+    private UserService userService;
+    private String postId;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = mode.equals("virtual");
+        context = BenchmarkContexts.start("spring.threads.virtual.enabled=" + virtual);
+        context.getBean(UserRepository.class).deleteAll();
+        context.getBean(PostRepository.class).deleteAll();
+        context.getBean(CommentRepository.class).deleteAll();
+        context.getBean(ViewRepository.class).deleteAll();
+        context.getBean(PostViewCountRepository.class).deleteAll();
+        userService = context.getBean(UserService.class);
+        executorService = virtual ? Executors.newVirtualThreadPerTaskExecutor() : Executors.newFixedThreadPool(PLATFORM_WORKERS);
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+        userService.signUp(registerRequest);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("john123");
+        loginRequest.setPassword("password");
+        token = userService.login(loginRequest).getToken();
+
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
+        createPostRequest.setTitle("the prestige");
+        createPostRequest.setContent("magician illusion.");
+        postId = userService.createPost(createPostRequest).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        List<Future<?>> responses = new ArrayList<>(concurrency);
+        for (int count = 0; count < concurrency; count++) {
+            responses.add(count % 2 == 0 ? executorService.submit(this::readPost) : executorService.submit(this::viewPost));
+        }
+        for (Future<?> response : responses) response.get();
+        return responses.size();
+    }
+
+    private Object readPost() {
+        ReadPostRequest readPostRequest = new ReadPostRequest();
+        readPostRequest.setPostId(postId);
+        return userService.readPost(readPostRequest);
+    }
+
+    private Object viewPost() {
+        ViewPostRequest viewPostRequest = new ViewPostRequest();
+        viewPostRequest.setId(postId);
+        viewPostRequest.setUsername("john123");
+        return userService.viewPost(viewPostRequest);
+    }
+}
@@ -0,0 +1,106 @@
+package org.truBlog.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.truBlog.data.models.Comment;
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.StoredContent;
+import org.truBlog.data.models.User;
+import org.truBlog.data.models.View;
+import org.truBlog.dataTransferObjects.requests.CommentInPostRequest;
+import org.truBlog.dataTransferObjects.requests.CreatePostRequest;
+import org.truBlog.dataTransferObjects.requests.RegisterRequest;
+import org.truBlog.dataTransferObjects.responses.*;
+import org.truBlog.utilities.Mappers;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappersBenchmark {
+
+    private RegisterRequest registerRequest;
+    private CreatePostRequest createPostRequest;
+    private CommentInPostRequest commentInPostRequest;
+    private User user;
+    private Post post;
+    private Comment comment;
+    private View view;
+    private StoredContent storedContent;
+
+    @Setup
+    public void setUp() {
+        registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+
+        createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setTitle("the prestige");
+        createPostRequest.setContent("magician illusion.");
+        storedContent = new StoredContent(createPostRequest.getContent(), null);
+
+        user = Mappers.registerRequestMap(registerRequest, registerRequest.getPassword());
+        user.setId("65f1c2a9e4b0a1b2c3d4e5f6");
+        post = Mappers.createPostRequestMap(createPostRequest, user, storedContent);
+        post.setId("65f1c2a9e4b0a1b2c3d4e5f7");
+
+        commentInPostRequest = new CommentInPostRequest();
+        commentInPostRequest.setPostId(post.getId());
+        commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setComment("this is amazing");
+        comment = Mappers.commentOnPostRequestMap(commentInPostRequest, user);
+        comment.setId("65f1c2a9e4b0a1b2c3d4e5f8");
+        view = Mappers.createViewPost(user, post.getId());
+    }
+
+    @Benchmark
+    public User registerRequestMap() {
+        return Mappers.registerRequestMap(registerRequest, registerRequest.getPassword());
+    }
+
+    @Benchmark
+    public RegisterResponse registerResponseMap() {
+        return Mappers.registerResponseMap(user);
+    }
+
+    @Benchmark
+    public Post createPostRequestMap() {
+        return Mappers.createPostRequestMap(createPostRequest, user, storedContent);
+    }
+
+    @Benchmark
+    public CreatePostResponse createPostResponseMap() {
+        return Mappers.createPostResponseMap(post);
+    }
+
+    @Benchmark
+    public EditPostResponse editPostResponseMap() {
+        return Mappers.editPostResponseMap(post);
+    }
+
+    @Benchmark
+    public View createViewPost() {
+        return Mappers.createViewPost(user, post.getId());
+    }
+
+    @Benchmark
+    public ViewPostResponse viewPostResponseMap() {
+        return Mappers.viewPostResponseMap(view);
+    }
+
+    @Benchmark
+    public Comment commentOnPostRequestMap() {
+        return Mappers.commentOnPostRequestMap(commentInPostRequest, user);
+    }
+
+    @Benchmark
+    public CommentInPostResponse commentOnPostResponseMap() {
+        return Mappers.commentOnPostResponseMap(comment);
+    }
+}
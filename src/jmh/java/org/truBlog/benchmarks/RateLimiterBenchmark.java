@@ -0,0 +1,62 @@
+package org.truBlog.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.truBlog.services.RateLimit;
+import org.truBlog.services.RateLimitService;
+import org.truBlog.services.RateLimitServiceImplementation;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    private static final int KEY_COUNT = 100_000;
+
+    private ConfigurableApplicationContext context;
+    private RateLimitService rateLimitService;
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.startComponents(new Class<?>[]{RateLimitServiceImplementation.class}, "trublog.rate-limits.enabled=true",
+                "trublog.rate-limits.user-reads.per-second=1000000000", "trublog.rate-limits.user-reads.burst=1000000000");
+        rateLimitService = context.getBean(RateLimitService.class);
+        keys = new String[KEY_COUNT];
+        for (int index = 0; index < KEY_COUNT; index++) keys[index] = "user" + index;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void hotKey() {
+        rateLimitService.acquire(RateLimit.USER_READS, "john123");
+    }
+
+    @Benchmark
+    public void spreadKeys() {
+        rateLimitService.acquire(RateLimit.USER_READS, keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void hotKeyUncontended() {
+        hotKey();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void spreadKeysUncontended() {
+        spreadKeys();
+    }
+}
@@ -0,0 +1,86 @@
+package org.truBlog.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.PostRevisionRepository;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.dataTransferObjects.responses.PostRevisionResponse;
+import org.truBlog.services.UserService;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RevisionReconstructionBenchmark {
+
+    @Param({"1", "4", "15", "64", "255"})
+    public int revisionDepth;
+
+    @Param({"16", "1000000"})
+    public int snapshotInterval;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private ReadPostRevisionRequest readPostRevisionRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("trublog.revisions.snapshot-interval=" + snapshotInterval);
+        context.getBean(UserRepository.class).deleteAll();
+        context.getBean(PostRepository.class).deleteAll();
+        context.getBean(PostRevisionRepository.class).deleteAll();
+        userService = context.getBean(UserService.class);
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+        userService.signUp(registerRequest);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("john123");
+        loginRequest.setPassword("password");
+        String token = userService.login(loginRequest).getToken();
+
+        StringBuilder content = new StringBuilder();
+        for (int word = 0; content.length() < 16_384; word++) content.append("word").append(word).append(' ');
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
+        createPostRequest.setTitle("the prestige");
+        createPostRequest.setContent(content.toString());
+        String postId = userService.createPost(createPostRequest).getId();
+
+        for (int revision = 1; revision <= revisionDepth + 1; revision++) {
+            int offset = (revision * 7_919) % (content.length() - 16);
+            content.replace(offset, offset + 8, String.format("edit%04d", revision % 10_000));
+            EditPostRequest editPostRequest = new EditPostRequest();
+            editPostRequest.setUsername("john123");
+            editPostRequest.setToken(token);
+            editPostRequest.setPostId(postId);
+            editPostRequest.setEditedContent(content.toString());
+            userService.editPost(editPostRequest);
+        }
+
+        readPostRevisionRequest = new ReadPostRevisionRequest();
+        readPostRevisionRequest.setPostId(postId);
+        readPostRevisionRequest.setRevision(revisionDepth);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PostRevisionResponse readRevision() {
+        return userService.readPostRevision(readPostRevisionRequest);
+    }
+}
@@ -0,0 +1,106 @@
+package org.truBlog.benchmarks;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.truBlog.data.models.Session;
+import org.truBlog.data.models.UserSummary;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.dataTransferObjects.requests.RegisterRequest;
+import org.truBlog.services.SessionService;
+import org.truBlog.services.SessionServiceImplementation;
+import org.truBlog.services.UserLookupService;
+import org.truBlog.services.UserService;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class SessionValidationBenchmark {
+
+    private static final String USERNAME = "john123";
+    private static final String LEGACY_LOCK_FIELD = "isLocked";
+
+    @State(Scope.Benchmark)
+    public static class Persisted {
+        private ConfigurableApplicationContext context;
+        private MongoTemplate mongoTemplate;
+        private UserLookupService userLookupService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkContexts.start();
+            context.getBean(UserRepository.class).deleteAll();
+            mongoTemplate = context.getBean(MongoTemplate.class);
+            userLookupService = context.getBean(UserLookupService.class);
+
+            RegisterRequest registerRequest = new RegisterRequest();
+            registerRequest.setFirstName("john");
+            registerRequest.setLastName("doe");
+            registerRequest.setUsername(USERNAME);
+            registerRequest.setPassword("password");
+            context.getBean(UserService.class).signUp(registerRequest);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Tokens {
+        private ConfigurableApplicationContext context;
+        private SessionService sessionService;
+        private String token;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = BenchmarkContexts.startComponents(new Class<?>[]{SessionServiceImplementation.class});
+            sessionService = context.getBean(SessionService.class);
+            token = sessionService.issue("65f1c2a9e4b0a1b2c3d4e5f6", USERNAME);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public boolean persistedFlagCheck(Persisted persisted) {
+        Query query = Query.query(Criteria.where("username").is(USERNAME));
+        query.fields().include(LEGACY_LOCK_FIELD);
+        return persisted.mongoTemplate.findOne(query, Document.class, "Users").getBoolean(LEGACY_LOCK_FIELD, false);
+    }
+
+    @Benchmark
+    public UserSummary cachedSummaryCheck(Persisted persisted) {
+        return persisted.userLookupService.findUserSummary(USERNAME);
+    }
+
+    @Benchmark
+    public Session tokenCheck(Tokens tokens) {
+        return tokens.sessionService.authenticate(tokens.token, USERNAME, "Please login");
+    }
+
+    @Benchmark
+    public long persistedFlagLogin(Persisted persisted) {
+        Query query = Query.query(Criteria.where("username").is(USERNAME));
+        return persisted.mongoTemplate.updateFirst(query, Update.update(LEGACY_LOCK_FIELD, false), "Users").getMatchedCount();
+    }
+
+    @Benchmark
+    public String tokenLogin(Tokens tokens) {
+        return tokens.sessionService.issue("65f1c2a9e4b0a1b2c3d4e5f6", USERNAME);
+    }
+}
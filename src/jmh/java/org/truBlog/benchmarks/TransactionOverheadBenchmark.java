@@ -0,0 +1,87 @@
+package org.truBlog.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.truBlog.data.repositories.CommentRepository;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.PostViewCountRepository;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.data.repositories.ViewRepository;
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.dataTransferObjects.responses.*;
+import org.truBlog.services.UserService;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class TransactionOverheadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean transactions;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private String postId;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("trublog.transactions.enabled=" + transactions);
+        context.getBean(UserRepository.class).deleteAll();
+        context.getBean(PostRepository.class).deleteAll();
+        context.getBean(CommentRepository.class).deleteAll();
+        context.getBean(ViewRepository.class).deleteAll();
+        context.getBean(PostViewCountRepository.class).deleteAll();
+        userService = context.getBean(UserService.class);
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+        userService.signUp(registerRequest);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("john123");
+        loginRequest.setPassword("password");
+        token = userService.login(loginRequest).getToken();
+        postId = userService.createPost(createPostRequest()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CreatePostResponse createPost() {
+        return userService.createPost(createPostRequest());
+    }
+
+    @Benchmark
+    public CommentInPostResponse commentInPost() {
+        CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
+        commentInPostRequest.setPostId(postId);
+        commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setToken(token);
+        commentInPostRequest.setComment("comment " + sequence.incrementAndGet());
+        return userService.commentInPost(commentInPostRequest);
+    }
+
+    private CreatePostRequest createPostRequest() {
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
+        createPostRequest.setTitle("post " + sequence.incrementAndGet());
+        createPostRequest.setContent("magician illusion.");
+        return createPostRequest;
+    }
+}
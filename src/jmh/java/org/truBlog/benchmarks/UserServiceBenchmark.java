@@ -0,0 +1,121 @@
+package org.truBlog.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.truBlog.data.repositories.CommentRepository;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.PostViewCountRepository;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.data.repositories.ViewRepository;
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.dataTransferObjects.responses.*;
+import org.truBlog.services.UserService;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceBenchmark {
+
+    @Param({"256", "16384"})
+    public int postSize;
+
+    @Param({"0", "100"})
+    public int commentCount;
+
+    @Param({"0", "1000"})
+    public int viewCount;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private String postId;
+    private String token;
+    private String content;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start();
+        context.getBean(UserRepository.class).deleteAll();
+        context.getBean(PostRepository.class).deleteAll();
+        context.getBean(CommentRepository.class).deleteAll();
+        context.getBean(ViewRepository.class).deleteAll();
+        context.getBean(PostViewCountRepository.class).deleteAll();
+        userService = context.getBean(UserService.class);
+        content = "x".repeat(postSize);
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+        userService.signUp(registerRequest);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("john123");
+        loginRequest.setPassword("password");
+        token = userService.login(loginRequest).getToken();
+
+        postId = userService.createPost(createPostRequest()).getId();
+        for (int count = 0; count < commentCount; count++) userService.commentInPost(commentInPostRequest());
+        for (int count = 0; count < viewCount; count++) userService.viewPost(viewPostRequest());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ViewPostResponse viewPost() {
+        return userService.viewPost(viewPostRequest());
+    }
+
+    @Benchmark
+    public CommentInPostResponse commentInPost() {
+        return userService.commentInPost(commentInPostRequest());
+    }
+
+    @Benchmark
+    public CreatePostResponse createPost() {
+        return userService.createPost(createPostRequest());
+    }
+
+    @Benchmark
+    public LoginResponse login() {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("john123");
+        loginRequest.setPassword("password");
+        return userService.login(loginRequest);
+    }
+
+    private CreatePostRequest createPostRequest() {
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
+        createPostRequest.setTitle("post " + sequence.incrementAndGet());
+        createPostRequest.setContent(content);
+        return createPostRequest;
+    }
+
+    private CommentInPostRequest commentInPostRequest() {
+        CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
+        commentInPostRequest.setPostId(postId);
+        commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setToken(token);
+        commentInPostRequest.setComment("comment " + sequence.incrementAndGet());
+        return commentInPostRequest;
+    }
+
+    private ViewPostRequest viewPostRequest() {
+        ViewPostRequest viewPostRequest = new ViewPostRequest();
+        viewPostRequest.setId(postId);
+        viewPostRequest.setUsername("john123");
+        return viewPostRequest;
+    }
+}
@@ -2,8 +2,10 @@ package org.truBlog;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TruBlogApp {
     public static void main(String[] args) {
         SpringApplication.run(TruBlogApp.class, args);
@@ -0,0 +1,140 @@
+package org.truBlog.bootstrap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.truBlog.data.models.User;
+import org.truBlog.data.repositories.IndexInitializer;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.services.SearchService;
+import org.truBlog.services.TimelineService;
+import org.truBlog.services.TrendingService;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.truBlog.utilities.Mappers.createAnonymousUserMap;
+
+@Component
+public class ApplicationBootstrap implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationBootstrap.class);
+
+    @Autowired
+    private IndexInitializer indexInitializer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private TimelineService timelineService;
+
+    @Value("${trublog.bootstrap.async:false}")
+    private boolean async;
+
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile long completedAtUptimeMillis = -1;
+
+    @Override
+    public void run(ApplicationArguments arguments) {
+        TimeGauge.builder("trublog.startup.bootstrap.completed", this, TimeUnit.MILLISECONDS, bootstrap -> bootstrap.completedAtUptimeMillis)
+                .description("JVM uptime when the startup bootstrap finished, -1 while it is still running")
+                .register(meterRegistry);
+        if (async) {
+            Thread.ofPlatform().name("trublog-bootstrap").daemon().start(this::bootstrap);
+        } else {
+            bootstrap();
+        }
+    }
+
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    private void bootstrap() {
+        try {
+            time("indexes", indexInitializer::ensureIndexes);
+            time("system-users", this::ensureSystemUsers);
+            time("username-keys", this::backfillUsernameKeys);
+            time("search-index", this::ensureSearchIndex);
+            time("timelines", this::ensureTimelines);
+            time("trending", trendingService::restore);
+            completedAtUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            logger.info("Startup bootstrap finished {} ms after JVM start", completedAtUptimeMillis);
+            completion.complete(null);
+        } catch (RuntimeException exception) {
+            logger.error("Startup bootstrap failed", exception);
+            completion.completeExceptionally(exception);
+            if (!async) throw exception;
+        }
+    }
+
+    private void ensureSystemUsers() {
+        for (User systemUser : List.of(createAnonymousUserMap())) {
+            try {
+                if (userRepository.upsertSystemUser(systemUser)) logger.info("Created system user {}", systemUser.getUsername());
+            } catch (DuplicateKeyException exception) {
+                // Another node inserted it between our match and insert.
+            }
+            long removed = userRepository.removeUnkeyedDuplicates(systemUser.getUsername());
+            if (removed > 0) logger.info("Removed {} duplicate {} users left by earlier boots", removed, systemUser.getUsername());
+        }
+    }
+
+    private void backfillUsernameKeys() {
+        long keyed = 0;
+        try (Stream<User> users = userRepository.streamUnkeyed()) {
+            for (User user : (Iterable<User>) users::iterator) {
+                String usernameKey = user.getUsername().toLowerCase(Locale.ROOT);
+                try {
+                    if (userRepository.setUsernameKey(user.getId(), usernameKey)) keyed++;
+                } catch (DuplicateKeyException exception) {
+                    // An older account already holds this name in another case; keep the newer one reachable by its exact username.
+                    userRepository.setUsernameKey(user.getId(), usernameKey + "#" + user.getId());
+                    logger.warn("User {} ({}) collides with an existing username and was keyed by id", user.getUsername(), user.getId());
+                }
+            }
+        }
+        if (keyed > 0) logger.info("Backfilled username keys for {} users", keyed);
+    }
+
+    private void ensureSearchIndex() {
+        if (searchService.isCurrent()) return;
+        long indexed = searchService.reindexAll();
+        logger.info("Indexed {} posts for search", indexed);
+    }
+
+    private void ensureTimelines() {
+        if (timelineService.isBuilt()) return;
+        timelineService.rebuild();
+        logger.info("Rebuilt the home timeline from the newest posts");
+    }
+
+    private void time(String step, Runnable action) {
+        Timer.builder("trublog.startup.bootstrap")
+                .tag("step", step)
+                .register(meterRegistry)
+                .record(action);
+    }
+}
@@ -0,0 +1,14 @@
+package org.truBlog.controllers;
+
+final class BearerTokens {
+
+    private static final String PREFIX = "Bearer ";
+
+    private BearerTokens() {
+    }
+
+    static String token(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, PREFIX, 0, PREFIX.length())) return null;
+        return authorization.substring(PREFIX.length()).trim();
+    }
+}
@@ -0,0 +1,32 @@
+package org.truBlog.controllers;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.truBlog.dataTransferObjects.requests.ReadFeedRequest;
+import org.truBlog.dataTransferObjects.responses.FeedResponse;
+import org.truBlog.services.UserService;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/feed")
+public class FeedController {
+
+    @Autowired
+    private UserService userService;
+
+    @GetMapping
+    public FeedResponse readFeed(@RequestParam(defaultValue = "0") int size, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization, HttpServletRequest request) {
+        ReadFeedRequest readFeedRequest = new ReadFeedRequest();
+        readFeedRequest.setSize(size);
+        readFeedRequest.setToken(BearerTokens.token(authorization));
+        readFeedRequest.setClientAddress(request.getRemoteAddr());
+        return userService.readFeed(readFeedRequest);
+    }
+}
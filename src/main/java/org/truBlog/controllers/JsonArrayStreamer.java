@@ -0,0 +1,37 @@
+package org.truBlog.controllers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Component
+@Profile("!reactive")
+public class JsonArrayStreamer {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${trublog.api.stream-flush-every:256}")
+    private int flushEvery;
+
+    public StreamingResponseBody stream(Stream<?> elements) {
+        return outputStream -> {
+            try (elements; JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                Iterator<?> iterator = elements.iterator();
+                for (int written = 1; iterator.hasNext(); written++) {
+                    generator.writeObject(iterator.next());
+                    if (written % flushEvery == 0) generator.flush();
+                }
+                generator.writeEndArray();
+            }
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package org.truBlog.controllers;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.dataTransferObjects.responses.*;
+import org.truBlog.services.UserService;
+
+import java.util.stream.Stream;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/posts")
+public class PostController {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JsonArrayStreamer jsonArrayStreamer;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public CreatePostResponse createPost(@RequestBody CreatePostRequest createPostRequest, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        createPostRequest.setToken(BearerTokens.token(authorization));
+        return userService.createPost(createPostRequest);
+    }
+
+    @GetMapping("/search")
+    public SearchPostsResponse searchPosts(@RequestParam("q") String query, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "0") int size, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization, HttpServletRequest request) {
+        SearchPostsRequest searchPostsRequest = new SearchPostsRequest();
+        searchPostsRequest.setQuery(query);
+        searchPostsRequest.setPage(page);
+        searchPostsRequest.setSize(size);
+        searchPostsRequest.setToken(BearerTokens.token(authorization));
+        searchPostsRequest.setClientAddress(request.getRemoteAddr());
+        return userService.searchPosts(searchPostsRequest);
+    }
+
+    @GetMapping("/{postId}")
+    public ResponseEntity<ReadPostResponse> readPost(@PathVariable String postId, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "0") int size, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization, HttpServletRequest request, WebRequest webRequest) {
+        ReadPostRequest readPostRequest = new ReadPostRequest();
+        readPostRequest.setPostId(postId);
+        readPostRequest.setCursor(cursor);
+        readPostRequest.setSize(size);
+        readPostRequest.setToken(BearerTokens.token(authorization));
+        readPostRequest.setClientAddress(request.getRemoteAddr());
+        String tag = userService.readPostTag(readPostRequest);
+        if (webRequest.checkNotModified(tag)) return null;
+        return ResponseEntity.ok().eTag(tag).body(userService.readPost(readPostRequest));
+    }
+
+    @GetMapping("/{postId}/revisions/{revision}")
+    public PostRevisionResponse readPostRevision(@PathVariable String postId, @PathVariable int revision, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization, HttpServletRequest request) {
+        ReadPostRevisionRequest readPostRevisionRequest = new ReadPostRevisionRequest();
+        readPostRevisionRequest.setPostId(postId);
+        readPostRevisionRequest.setRevision(revision);
+        readPostRevisionRequest.setToken(BearerTokens.token(authorization));
+        readPostRevisionRequest.setClientAddress(request.getRemoteAddr());
+        return userService.readPostRevision(readPostRevisionRequest);
+    }
+
+    @PatchMapping("/{postId}")
+    public EditPostResponse editPost(@PathVariable String postId, @RequestBody EditPostRequest editPostRequest, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        editPostRequest.setPostId(postId);
+        editPostRequest.setToken(BearerTokens.token(authorization));
+        return userService.editPost(editPostRequest);
+    }
+
+    @DeleteMapping("/{postId}")
+    public DeletePostResponse deletePost(@PathVariable String postId, @RequestParam(required = false) String username, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        DeletePostRequest deletePostRequest = new DeletePostRequest();
+        deletePostRequest.setPostId(postId);
+        deletePostRequest.setUsername(username);
+        deletePostRequest.setToken(BearerTokens.token(authorization));
+        return userService.deletePost(deletePostRequest);
+    }
+
+    @PostMapping("/{postId}/views")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ViewPostResponse viewPost(@PathVariable String postId, @RequestParam(required = false) String username, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization, HttpServletRequest request) {
+        ViewPostRequest viewPostRequest = new ViewPostRequest();
+        viewPostRequest.setId(postId);
+        viewPostRequest.setUsername(username);
+        viewPostRequest.setToken(BearerTokens.token(authorization));
+        viewPostRequest.setClientAddress(request.getRemoteAddr());
+        return userService.viewPost(viewPostRequest);
+    }
+
+    @GetMapping("/{postId}/unique-viewers")
+    public UniqueViewersResponse readUniqueViewers(@PathVariable String postId, @RequestParam(defaultValue = "0") int days, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization, HttpServletRequest request) {
+        ReadUniqueViewersRequest readUniqueViewersRequest = new ReadUniqueViewersRequest();
+        readUniqueViewersRequest.setPostId(postId);
+        readUniqueViewersRequest.setDays(days);
+        readUniqueViewersRequest.setToken(BearerTokens.token(authorization));
+        readUniqueViewersRequest.setClientAddress(request.getRemoteAddr());
+        return userService.readUniqueViewers(readUniqueViewersRequest);
+    }
+
+    @GetMapping("/{postId}/comments")
+    public ResponseEntity<StreamingResponseBody> listComments(@PathVariable String postId, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization, HttpServletRequest request) {
+        StreamCommentsRequest streamCommentsRequest = new StreamCommentsRequest();
+        streamCommentsRequest.setPostId(postId);
+        streamCommentsRequest.setToken(BearerTokens.token(authorization));
+        streamCommentsRequest.setClientAddress(request.getRemoteAddr());
+        Stream<CommentInPostResponse> comments = userService.streamComments(streamCommentsRequest);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(comments));
+    }
+
+    @PostMapping("/{postId}/comments")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CommentInPostResponse commentInPost(@PathVariable String postId, @RequestBody CommentInPostRequest commentInPostRequest, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        commentInPostRequest.setPostId(postId);
+        commentInPostRequest.setToken(BearerTokens.token(authorization));
+        return userService.commentInPost(commentInPostRequest);
+    }
+
+    @DeleteMapping("/{postId}/comments/{commentId}")
+    public DeleteCommentInPostResponse deleteCommentInPost(@PathVariable String postId, @PathVariable String commentId, @RequestParam(required = false) String username, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        DeleteCommentInPostRequest deleteCommentInPostRequest = new DeleteCommentInPostRequest();
+        deleteCommentInPostRequest.setPostId(postId);
+        deleteCommentInPostRequest.setCommentId(commentId);
+        deleteCommentInPostRequest.setUsername(username);
+        deleteCommentInPostRequest.setToken(BearerTokens.token(authorization));
+        return userService.deleteCommentInPost(deleteCommentInPostRequest);
+    }
+}
@@ -0,0 +1,84 @@
+package org.truBlog.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.dataTransferObjects.responses.*;
+import org.truBlog.services.ReactiveUserService;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/posts")
+public class ReactivePostController {
+
+    @Autowired
+    private ReactiveUserService userService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<CreatePostResponse> createPost(@RequestBody CreatePostRequest createPostRequest, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        createPostRequest.setToken(BearerTokens.token(authorization));
+        return userService.createPost(createPostRequest);
+    }
+
+    @GetMapping("/{postId}")
+    public Mono<ReadPostResponse> readPost(@PathVariable String postId, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "0") int size, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization, ServerHttpRequest request) {
+        ReadPostRequest readPostRequest = new ReadPostRequest();
+        readPostRequest.setPostId(postId);
+        readPostRequest.setCursor(cursor);
+        readPostRequest.setSize(size);
+        readPostRequest.setToken(BearerTokens.token(authorization));
+        readPostRequest.setClientAddress(ClientAddresses.address(request));
+        return userService.readPost(readPostRequest);
+    }
+
+    @PatchMapping("/{postId}")
+    public Mono<EditPostResponse> editPost(@PathVariable String postId, @RequestBody EditPostRequest editPostRequest, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        editPostRequest.setPostId(postId);
+        editPostRequest.setToken(BearerTokens.token(authorization));
+        return userService.editPost(editPostRequest);
+    }
+
+    @DeleteMapping("/{postId}")
+    public Mono<DeletePostResponse> deletePost(@PathVariable String postId, @RequestParam(required = false) String username, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        DeletePostRequest deletePostRequest = new DeletePostRequest();
+        deletePostRequest.setPostId(postId);
+        deletePostRequest.setUsername(username);
+        deletePostRequest.setToken(BearerTokens.token(authorization));
+        return userService.deletePost(deletePostRequest);
+    }
+
+    @PostMapping("/{postId}/views")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<ViewPostResponse> viewPost(@PathVariable String postId, @RequestParam(required = false) String username, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization, ServerHttpRequest request) {
+        ViewPostRequest viewPostRequest = new ViewPostRequest();
+        viewPostRequest.setId(postId);
+        viewPostRequest.setUsername(username);
+        viewPostRequest.setToken(BearerTokens.token(authorization));
+        viewPostRequest.setClientAddress(ClientAddresses.address(request));
+        return userService.viewPost(viewPostRequest);
+    }
+
+    @PostMapping("/{postId}/comments")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<CommentInPostResponse> commentInPost(@PathVariable String postId, @RequestBody CommentInPostRequest commentInPostRequest, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        commentInPostRequest.setPostId(postId);
+        commentInPostRequest.setToken(BearerTokens.token(authorization));
+        return userService.commentInPost(commentInPostRequest);
+    }
+
+    @DeleteMapping("/{postId}/comments/{commentId}")
+    public Mono<DeleteCommentInPostResponse> deleteCommentInPost(@PathVariable String postId, @PathVariable String commentId, @RequestParam(required = false) String username, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        DeleteCommentInPostRequest deleteCommentInPostRequest = new DeleteCommentInPostRequest();
+        deleteCommentInPostRequest.setPostId(postId);
+        deleteCommentInPostRequest.setCommentId(commentId);
+        deleteCommentInPostRequest.setUsername(username);
+        deleteCommentInPostRequest.setToken(BearerTokens.token(authorization));
+        return userService.deleteCommentInPost(deleteCommentInPostRequest);
+    }
+}
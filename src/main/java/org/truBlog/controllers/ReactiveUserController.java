@@ -0,0 +1,44 @@
+package org.truBlog.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.truBlog.dataTransferObjects.requests.LoginRequest;
+import org.truBlog.dataTransferObjects.requests.LogoutRequest;
+import org.truBlog.dataTransferObjects.requests.RegisterRequest;
+import org.truBlog.dataTransferObjects.responses.LoginResponse;
+import org.truBlog.dataTransferObjects.responses.LogoutResponse;
+import org.truBlog.dataTransferObjects.responses.RegisterResponse;
+import org.truBlog.services.ReactiveUserService;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/users")
+public class ReactiveUserController {
+
+    @Autowired
+    private ReactiveUserService userService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<RegisterResponse> signUp(@RequestBody RegisterRequest registerRequest, ServerHttpRequest request) {
+        registerRequest.setClientAddress(ClientAddresses.address(request));
+        return userService.signUp(registerRequest);
+    }
+
+    @PostMapping("/login")
+    public Mono<LoginResponse> login(@RequestBody LoginRequest loginRequest, ServerHttpRequest request) {
+        loginRequest.setClientAddress(ClientAddresses.address(request));
+        return userService.login(loginRequest);
+    }
+
+    @PostMapping("/logout")
+    public Mono<LogoutResponse> logout(@RequestBody LogoutRequest logoutRequest, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        logoutRequest.setToken(BearerTokens.token(authorization));
+        return userService.logout(logoutRequest);
+    }
+}
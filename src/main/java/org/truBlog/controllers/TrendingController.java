@@ -0,0 +1,32 @@
+package org.truBlog.controllers;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.truBlog.dataTransferObjects.requests.ReadTrendingRequest;
+import org.truBlog.dataTransferObjects.responses.TrendingResponse;
+import org.truBlog.services.UserService;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/trending")
+public class TrendingController {
+
+    @Autowired
+    private UserService userService;
+
+    @GetMapping
+    public TrendingResponse readTrending(@RequestParam(defaultValue = "0") int size, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization, HttpServletRequest request) {
+        ReadTrendingRequest readTrendingRequest = new ReadTrendingRequest();
+        readTrendingRequest.setSize(size);
+        readTrendingRequest.setToken(BearerTokens.token(authorization));
+        readTrendingRequest.setClientAddress(request.getRemoteAddr());
+        return userService.readTrending(readTrendingRequest);
+    }
+}
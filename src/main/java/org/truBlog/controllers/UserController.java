@@ -0,0 +1,65 @@
+package org.truBlog.controllers;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.truBlog.dataTransferObjects.requests.LoginRequest;
+import org.truBlog.dataTransferObjects.requests.LogoutRequest;
+import org.truBlog.dataTransferObjects.requests.RegisterRequest;
+import org.truBlog.dataTransferObjects.requests.StreamPostsRequest;
+import org.truBlog.dataTransferObjects.responses.LoginResponse;
+import org.truBlog.dataTransferObjects.responses.LogoutResponse;
+import org.truBlog.dataTransferObjects.responses.PostSummaryResponse;
+import org.truBlog.dataTransferObjects.responses.RegisterResponse;
+import org.truBlog.services.UserService;
+
+import java.util.stream.Stream;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/users")
+public class UserController {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JsonArrayStreamer jsonArrayStreamer;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public RegisterResponse signUp(@RequestBody RegisterRequest registerRequest, HttpServletRequest request) {
+        registerRequest.setClientAddress(request.getRemoteAddr());
+        return userService.signUp(registerRequest);
+    }
+
+    @PostMapping("/login")
+    public LoginResponse login(@RequestBody LoginRequest loginRequest, HttpServletRequest request) {
+        loginRequest.setClientAddress(request.getRemoteAddr());
+        return userService.login(loginRequest);
+    }
+
+    @PostMapping("/logout")
+    public LogoutResponse logout(@RequestBody LogoutRequest logoutRequest, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        logoutRequest.setToken(BearerTokens.token(authorization));
+        return userService.logout(logoutRequest);
+    }
+
+    @GetMapping("/{username}/posts")
+    public ResponseEntity<StreamingResponseBody> listPosts(@PathVariable String username, @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization, HttpServletRequest request) {
+        StreamPostsRequest streamPostsRequest = new StreamPostsRequest();
+        streamPostsRequest.setUsername(username);
+        streamPostsRequest.setToken(BearerTokens.token(authorization));
+        streamPostsRequest.setClientAddress(request.getRemoteAddr());
+        Stream<PostSummaryResponse> posts = userService.streamPosts(streamPostsRequest);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jsonArrayStreamer.stream(posts));
+    }
+}
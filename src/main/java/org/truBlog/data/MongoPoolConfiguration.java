@@ -0,0 +1,41 @@
+package org.truBlog.data;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MongoPoolConfiguration {
+
+    @Value("${trublog.mongo.pool.max-size:0}")
+    private int maxSize;
+
+    @Value("${trublog.mongo.pool.min-size:0}")
+    private int minSize;
+
+    @Value("${trublog.mongo.pool.max-connecting:0}")
+    private int maxConnecting;
+
+    @Value("${trublog.mongo.pool.max-wait-ms:0}")
+    private long maxWaitMillis;
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer() {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(orDefault(maxSize, 100))
+                .minSize(orDefault(minSize, 0))
+                .maxConnecting(orDefault(maxConnecting, 2))
+                .maxWaitTime(orDefault(maxWaitMillis, 120_000), TimeUnit.MILLISECONDS));
+    }
+
+    private static int orDefault(int configured, int fallback) {
+        return configured > 0 ? configured : fallback;
+    }
+
+    private static long orDefault(long configured, long fallback) {
+        return configured > 0 ? configured : fallback;
+    }
+}
@@ -0,0 +1,84 @@
+package org.truBlog.data;
+
+import com.mongodb.MongoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+@Component
+public class WriteTransactions {
+
+    @Autowired
+    private MongoDatabaseFactory mongoDatabaseFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${trublog.transactions.enabled:false}")
+    private boolean enabled;
+
+    @Value("${trublog.transactions.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${trublog.transactions.retry-backoff-ms:10}")
+    private long retryBackoffMillis;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter retries;
+
+    @PostConstruct
+    private void createTransactionTemplate() {
+        if (enabled) transactionTemplate = new TransactionTemplate(new MongoTransactionManager(mongoDatabaseFactory));
+        retries = Counter.builder("trublog.transactions.retries").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public <T> T execute(Supplier<T> writes) {
+        if (!enabled) return writes.get();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> writes.get());
+            } catch (RuntimeException exception) {
+                if (attempt >= maxAttempts || !isTransient(exception)) throw exception;
+                retries.increment();
+                backOff(attempt);
+            }
+        }
+    }
+
+    public void execute(Runnable writes) {
+        execute(() -> {
+            writes.run();
+            return null;
+        });
+    }
+
+    private static boolean isTransient(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)) return true;
+        }
+        return false;
+    }
+
+    private void backOff(int attempt) {
+        long ceiling = retryBackoffMillis << Math.min(attempt - 1, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying a transaction", exception);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.truBlog.data.models;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -10,12 +11,16 @@ import java.time.LocalDateTime;
 
 @Data
 @Document("Comments")
+@CompoundIndex(name = "post_newest", def = "{ 'postId': 1, '_id': -1 }")
 public class Comment {
     @Id
     private String id;
+    private String postId;
     private LocalDateTime timeOfComment = LocalDateTime.now();
     private String comment;
-    @DBRef
+    private String commenterId;
+    private String commenterUsername;
+    @DBRef(lazy = true)
     private User commenter;
 
 }
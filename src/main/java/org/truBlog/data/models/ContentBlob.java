@@ -0,0 +1,15 @@
+package org.truBlog.data.models;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Document("ContentBlobs")
+public class ContentBlob {
+    @Id
+    private String id;
+    private int length;
+    private boolean compressed;
+    private byte[] data;
+}
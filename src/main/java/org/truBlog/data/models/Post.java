@@ -3,6 +3,7 @@ package org.truBlog.data.models;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -12,15 +13,21 @@ import java.util.List;
 
 @Data
 @Document("Posts")
+@CompoundIndex(name = "author_newest", def = "{ 'authorId': 1, 'dateCreated': -1 }")
+@CompoundIndex(name = "newest", def = "{ 'dateCreated': -1 }")
 public class Post {
     @Id
     private String id;
+    private String authorId;
+    private String authorUsername;
+    private long version;
+    private int revision;
     private String title;
     private String content;
+    private String contentHash;
     private LocalDateTime dateCreated = LocalDateTime.now();
-    @DBRef
-    private List<View> views = new ArrayList<>();
-    @DBRef
+    private LocalDateTime editedAt;
+    @DBRef(lazy = true)
     private List<Comment> comments = new ArrayList<>();
 
 }
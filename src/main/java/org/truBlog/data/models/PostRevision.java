@@ -0,0 +1,24 @@
+package org.truBlog.data.models;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Document("PostRevisions")
+@CompoundIndex(name = "post_revision", def = "{'postId': 1, 'revision': 1}")
+public class PostRevision {
+    @Id
+    private String id;
+    private String postId;
+    private int revision;
+    private String title;
+    private boolean snapshot;
+    private String content;
+    private String contentHash;
+    private byte[] delta;
+    private LocalDateTime editedAt;
+}
@@ -0,0 +1,4 @@
+package org.truBlog.data.models;
+
+public record PostVersion(String id, long version) {
+}
@@ -0,0 +1,17 @@
+package org.truBlog.data.models;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Document("PostViewCounts")
+public class PostViewCount {
+    @Id
+    private String postId;
+    private long viewCount;
+    private List<String> recentViewers = new ArrayList<>();
+}
@@ -0,0 +1,6 @@
+package org.truBlog.data.models;
+
+import java.time.LocalDateTime;
+
+public record Revision(String postId, int revision, String title, String content, LocalDateTime editedAt) {
+}
@@ -0,0 +1,4 @@
+package org.truBlog.data.models;
+
+public record Session(long id, String userId, String username, long expiresAtMillis) {
+}
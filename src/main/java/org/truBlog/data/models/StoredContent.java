@@ -0,0 +1,4 @@
+package org.truBlog.data.models;
+
+public record StoredContent(String inline, String hash) {
+}
@@ -0,0 +1,16 @@
+package org.truBlog.data.models;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Document("Timelines")
+public class Timeline {
+    @Id
+    private String id;
+    private List<TimelineEntry> entries = new ArrayList<>();
+}
@@ -0,0 +1,14 @@
+package org.truBlog.data.models;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class TimelineEntry {
+    private String postId;
+    private String title;
+    private String authorUsername;
+    private LocalDateTime dateCreated;
+    private boolean deleted;
+}
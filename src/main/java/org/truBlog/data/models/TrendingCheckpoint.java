@@ -0,0 +1,20 @@
+package org.truBlog.data.models;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Document("TrendingCheckpoints")
+public class TrendingCheckpoint {
+    @Id
+    private String id;
+    private long landmarkMillis;
+    private int depth;
+    private int width;
+    private double[] sketch;
+    private List<TrendingScore> topPosts = new ArrayList<>();
+}
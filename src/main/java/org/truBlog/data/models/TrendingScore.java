@@ -0,0 +1,4 @@
+package org.truBlog.data.models;
+
+public record TrendingScore(String postId, double score) {
+}
@@ -0,0 +1,19 @@
+package org.truBlog.data.models;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Document("UniqueViewers")
+@CompoundIndex(name = "post_day", def = "{'postId': 1, 'day': 1}")
+public class UniqueViewers {
+    @Id
+    private String id;
+    private String postId;
+    private String day;
+    private String node;
+    private byte[] registers;
+    private Long version;
+}
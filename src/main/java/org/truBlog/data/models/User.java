@@ -2,6 +2,7 @@ package org.truBlog.data.models;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -17,9 +18,10 @@ public class User {
     private String firstName;
     private String lastName;
     private String username;
+    @Indexed(name = "username_key", unique = true, sparse = true)
+    private String usernameKey;
     private String password;
-    private boolean isLocked;
     private LocalDateTime dateOfRegistration = LocalDateTime.now();
-    @DBRef
+    @DBRef(lazy = true)
     private List<Post> posts = new ArrayList<>();
 }
@@ -0,0 +1,4 @@
+package org.truBlog.data.models;
+
+public record UserSummary(String id, String username, String password) {
+}
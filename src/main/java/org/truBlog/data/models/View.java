@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 public class View {
     @Id
     private String id;
+    private String postId;
     private LocalDateTime timeOfView = LocalDateTime.now();
     private String viewer;
 }
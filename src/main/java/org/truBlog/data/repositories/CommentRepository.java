@@ -1,7 +1,28 @@
 package org.truBlog.data.repositories;
 
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.truBlog.data.models.Comment;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 public interface CommentRepository extends MongoRepository<Comment, String> {
+    Optional<Comment> findByIdAndPostId(String id, String postId);
+
+    @Query(value = "{ 'postId': ?0 }", fields = "{ 'postId': 1, 'timeOfComment': 1, 'comment': 1, 'commenterUsername': 1, 'commenter': 1 }", sort = "{ '_id': -1 }")
+    List<Comment> findNewestByPostId(String postId, Pageable pageable);
+
+    @Query(value = "{ 'postId': ?0, '_id': { '$lt': ?1 } }", fields = "{ 'postId': 1, 'timeOfComment': 1, 'comment': 1, 'commenterUsername': 1, 'commenter': 1 }", sort = "{ '_id': -1 }")
+    List<Comment> findNewestByPostIdBefore(String postId, ObjectId cursor, Pageable pageable);
+
+    @Query(value = "{ 'postId': ?0 }", fields = "{ 'postId': 1, 'timeOfComment': 1, 'comment': 1, 'commenterUsername': 1, 'commenter': 1 }", sort = "{ '_id': -1 }")
+    Stream<Comment> streamNewestByPostId(String postId);
+
+    @Query(value = "{ 'postId': { '$in': ?0 } }", fields = "{ 'postId': 1, 'comment': 1 }")
+    List<Comment> findTextByPostIdIn(Collection<String> postIds);
 }
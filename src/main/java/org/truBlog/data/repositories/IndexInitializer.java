@@ -0,0 +1,36 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+import org.truBlog.data.models.Comment;
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.PostRevision;
+import org.truBlog.data.models.UniqueViewers;
+import org.truBlog.data.models.User;
+
+import java.util.List;
+
+@Component
+public class IndexInitializer {
+
+    private static final List<Class<?>> INDEXED_DOCUMENTS = List.of(User.class, Post.class, Comment.class, UniqueViewers.class, PostRevision.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoMappingContext mongoMappingContext;
+
+    public void ensureIndexes() {
+        IndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+        for (Class<?> document : INDEXED_DOCUMENTS) {
+            IndexOperations indexOperations = mongoTemplate.indexOps(document);
+            indexResolver.resolveIndexFor(document).forEach(indexOperations::ensureIndex);
+        }
+    }
+}
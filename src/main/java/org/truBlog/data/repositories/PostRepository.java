@@ -1,7 +1,40 @@
 package org.truBlog.data.repositories;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.truBlog.data.models.Post;
+import org.truBlog.data.models.PostVersion;
 
-public interface PostRepository extends MongoRepository<Post, String> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface PostRepository extends MongoRepository<Post, String>, PostRepositoryCustom {
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'comments': 0 }")
+    Optional<Post> findHeaderById(String id);
+
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'title': 1 }")
+    Optional<Post> findTitleById(String id);
+
+    boolean existsByIdAndAuthorId(String id, String authorId);
+
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'version': 1 }")
+    Optional<PostVersion> findVersionById(String id);
+
+    @Query(value = "{ 'authorId': ?0 }", fields = "{ 'comments': 0, 'content': 0, 'contentHash': 0 }", sort = "{ 'dateCreated': -1 }")
+    Stream<Post> streamNewestByAuthorId(String authorId);
+
+    @Query(value = "{}", fields = "{ 'title': 1, 'authorId': 1, 'authorUsername': 1, 'dateCreated': 1 }", sort = "{ 'dateCreated': -1 }")
+    List<Post> findNewest(Pageable pageable);
+
+    @Query(value = "{ '_id': { '$in': ?0 } }", fields = "{ 'title': 1, 'content': 1, 'contentHash': 1 }")
+    List<Post> findTextByIdIn(Collection<String> ids);
+
+    @Query(value = "{ '_id': { '$in': ?0 } }", fields = "{ '_id': 1 }")
+    List<Post> findIdsByIdIn(Collection<String> ids);
+
+    @Query(value = "{}", fields = "{ 'title': 1, 'content': 1, 'contentHash': 1 }")
+    Stream<Post> streamAllText();
 }
@@ -0,0 +1,15 @@
+package org.truBlog.data.repositories;
+
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.StoredContent;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface PostRepositoryCustom {
+    boolean pushComment(String postId, String commentId);
+
+    void pullComment(String postId, String commentId);
+
+    Optional<Post> updateTitleAndContent(String postId, String title, StoredContent content, LocalDateTime editedAt);
+}
@@ -0,0 +1,47 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.StoredContent;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.truBlog.data.repositories.References.commentReference;
+
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean pushComment(String postId, String commentId) {
+        Update update = new Update().push("comments", commentReference(commentId)).inc("version", 1);
+        return mongoTemplate.updateFirst(byId(postId), update, Post.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public void pullComment(String postId, String commentId) {
+        mongoTemplate.updateFirst(byId(postId), new Update().pull("comments", commentReference(commentId)).inc("version", 1), Post.class);
+    }
+
+    @Override
+    public Optional<Post> updateTitleAndContent(String postId, String title, StoredContent content, LocalDateTime editedAt) {
+        Update update = new Update();
+        if (title != null) update.set("title", title);
+        if (content != null) update.set("content", content.inline()).set("contentHash", content.hash());
+        Query query = byId(postId);
+        query.fields().exclude("comments");
+        if (update.getUpdateObject().isEmpty()) return Optional.ofNullable(mongoTemplate.findOne(query, Post.class));
+        update.set("editedAt", editedAt).inc("version", 1).inc("revision", 1);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, Post.class));
+    }
+
+    private Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
@@ -0,0 +1,18 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.truBlog.data.models.PostRevision;
+
+import java.util.List;
+
+public interface PostRevisionRepository extends MongoRepository<PostRevision, String> {
+    @Query(value = "{ 'postId': ?0, 'snapshot': true, 'revision': { '$lte': ?1 } }", sort = "{ 'revision': -1 }")
+    List<PostRevision> findSnapshotsAtOrBefore(String postId, int revision, Pageable pageable);
+
+    @Query(value = "{ 'postId': ?0, 'revision': { '$gt': ?1, '$lte': ?2 } }", sort = "{ 'revision': 1 }")
+    List<PostRevision> findRevisionsBetween(String postId, int afterRevision, int revision);
+
+    void deleteByPostId(String postId);
+}
@@ -0,0 +1,8 @@
+package org.truBlog.data.repositories;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PostViewCountRepositoryCustom {
+    void incrementViewCounts(Map<String, Long> viewCounts, Map<String, List<String>> recentViewers, int recentViewersLimit);
+}
@@ -0,0 +1,33 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.truBlog.data.models.PostViewCount;
+
+import java.util.List;
+import java.util.Map;
+
+public class PostViewCountRepositoryCustomImpl implements PostViewCountRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void incrementViewCounts(Map<String, Long> viewCounts, Map<String, List<String>> recentViewers, int recentViewersLimit) {
+        if (viewCounts.isEmpty()) return;
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostViewCount.class);
+        viewCounts.forEach((postId, count) -> {
+            Update update = new Update().inc("viewCount", count);
+            List<String> viewers = recentViewers.get(postId);
+            if (recentViewersLimit > 0 && viewers != null && !viewers.isEmpty()) {
+                update.push("recentViewers").slice(-recentViewersLimit).each(viewers.toArray());
+            }
+            bulkOperations.upsert(Query.query(Criteria.where("_id").is(postId)), update);
+        });
+        bulkOperations.execute();
+    }
+}
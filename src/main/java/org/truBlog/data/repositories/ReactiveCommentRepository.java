@@ -0,0 +1,20 @@
+package org.truBlog.data.repositories;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.truBlog.data.models.Comment;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCommentRepository extends ReactiveMongoRepository<Comment, String> {
+    @Query(value = "{ '_id': ?0, 'postId': ?1 }", fields = "{ 'commenter': 0 }")
+    Mono<Comment> findByIdAndPostId(String id, String postId);
+
+    @Query(value = "{ 'postId': ?0 }", fields = "{ 'postId': 1, 'timeOfComment': 1, 'comment': 1, 'commenterUsername': 1 }", sort = "{ '_id': -1 }")
+    Flux<Comment> findNewestByPostId(String postId, Pageable pageable);
+
+    @Query(value = "{ 'postId': ?0, '_id': { '$lt': ?1 } }", fields = "{ 'postId': 1, 'timeOfComment': 1, 'comment': 1, 'commenterUsername': 1 }", sort = "{ '_id': -1 }")
+    Flux<Comment> findNewestByPostIdBefore(String postId, ObjectId cursor, Pageable pageable);
+}
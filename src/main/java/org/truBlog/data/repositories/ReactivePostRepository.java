@@ -0,0 +1,13 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.truBlog.data.models.Post;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePostRepository extends ReactiveMongoRepository<Post, String>, ReactivePostRepositoryCustom {
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'comments': 0 }")
+    Mono<Post> findHeaderById(String id);
+
+    Mono<Boolean> existsByIdAndAuthorId(String id, String authorId);
+}
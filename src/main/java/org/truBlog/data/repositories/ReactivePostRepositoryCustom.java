@@ -0,0 +1,15 @@
+package org.truBlog.data.repositories;
+
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.StoredContent;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface ReactivePostRepositoryCustom {
+    Mono<Boolean> pushComment(String postId, String commentId);
+
+    Mono<Void> pullComment(String postId, String commentId);
+
+    Mono<Post> updateTitleAndContent(String postId, String title, StoredContent content, LocalDateTime editedAt);
+}
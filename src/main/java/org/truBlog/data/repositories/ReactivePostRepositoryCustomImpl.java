@@ -0,0 +1,47 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.StoredContent;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.truBlog.data.repositories.References.commentReference;
+
+public class ReactivePostRepositoryCustomImpl implements ReactivePostRepositoryCustom {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Boolean> pushComment(String postId, String commentId) {
+        Update update = new Update().push("comments", commentReference(commentId)).inc("version", 1);
+        return reactiveMongoTemplate.updateFirst(byId(postId), update, Post.class).map(result -> result.getMatchedCount() > 0);
+    }
+
+    @Override
+    public Mono<Void> pullComment(String postId, String commentId) {
+        return reactiveMongoTemplate.updateFirst(byId(postId), new Update().pull("comments", commentReference(commentId)).inc("version", 1), Post.class).then();
+    }
+
+    @Override
+    public Mono<Post> updateTitleAndContent(String postId, String title, StoredContent content, LocalDateTime editedAt) {
+        Update update = new Update();
+        if (title != null) update.set("title", title);
+        if (content != null) update.set("content", content.inline()).set("contentHash", content.hash());
+        Query query = byId(postId);
+        query.fields().exclude("comments");
+        if (update.getUpdateObject().isEmpty()) return reactiveMongoTemplate.findOne(query, Post.class);
+        update.set("editedAt", editedAt).inc("version", 1).inc("revision", 1);
+        return reactiveMongoTemplate.findAndModify(query, update, Post.class);
+    }
+
+    private Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
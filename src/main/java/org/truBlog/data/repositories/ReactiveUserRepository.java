@@ -0,0 +1,12 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.truBlog.data.models.User;
+import org.truBlog.data.models.UserSummary;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String>, ReactiveUserRepositoryCustom {
+    @Query(value = "{ 'username': ?0 }", fields = "{ 'username': 1, 'password': 1 }")
+    Mono<UserSummary> findSummaryByUsername(String username);
+}
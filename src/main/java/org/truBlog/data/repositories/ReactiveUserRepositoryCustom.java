@@ -0,0 +1,13 @@
+package org.truBlog.data.repositories;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepositoryCustom {
+    Mono<Void> updatePassword(String userId, String passwordHash);
+
+    Mono<Void> pushPost(String userId, String postId);
+
+    Mono<Void> pullPost(String userId, String postId);
+
+    Mono<Boolean> ownsPost(String userId, String postId);
+}
@@ -0,0 +1,41 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.truBlog.data.models.User;
+import reactor.core.publisher.Mono;
+
+import static org.truBlog.data.repositories.References.postReference;
+
+public class ReactiveUserRepositoryCustomImpl implements ReactiveUserRepositoryCustom {
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Void> updatePassword(String userId, String passwordHash) {
+        return reactiveMongoTemplate.updateFirst(byId(userId), Update.update("password", passwordHash), User.class).then();
+    }
+
+    @Override
+    public Mono<Void> pushPost(String userId, String postId) {
+        return reactiveMongoTemplate.updateFirst(byId(userId), new Update().push("posts", postReference(postId)), User.class).then();
+    }
+
+    @Override
+    public Mono<Void> pullPost(String userId, String postId) {
+        return reactiveMongoTemplate.updateFirst(byId(userId), new Update().pull("posts", postReference(postId)), User.class).then();
+    }
+
+    @Override
+    public Mono<Boolean> ownsPost(String userId, String postId) {
+        return reactiveMongoTemplate.exists(byId(userId).addCriteria(Criteria.where("posts").is(postReference(postId))), User.class);
+    }
+
+    private Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
@@ -0,0 +1,7 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.truBlog.data.models.View;
+
+public interface ReactiveViewRepository extends ReactiveMongoRepository<View, String> {
+}
@@ -0,0 +1,22 @@
+package org.truBlog.data.repositories;
+
+import com.mongodb.DBRef;
+import org.bson.types.ObjectId;
+
+final class References {
+
+    private References() {
+    }
+
+    static DBRef postReference(String postId) {
+        return reference("Posts", postId);
+    }
+
+    static DBRef commentReference(String commentId) {
+        return reference("Comments", commentId);
+    }
+
+    private static DBRef reference(String collection, String id) {
+        return new DBRef(collection, ObjectId.isValid(id) ? new ObjectId(id) : id);
+    }
+}
@@ -0,0 +1,7 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.truBlog.data.models.Timeline;
+
+public interface TimelineRepository extends MongoRepository<Timeline, String>, TimelineRepositoryCustom {
+}
@@ -0,0 +1,17 @@
+package org.truBlog.data.repositories;
+
+import org.truBlog.data.models.TimelineEntry;
+
+import java.util.List;
+
+public interface TimelineRepositoryCustom {
+    void pushEntry(String timelineId, TimelineEntry entry, int capacity);
+
+    void tombstoneEntry(String timelineId, String postId);
+
+    void retitleEntry(String timelineId, String postId, String title);
+
+    List<TimelineEntry> findNewestEntries(String timelineId, int limit);
+
+    void replaceEntries(String timelineId, List<TimelineEntry> entries);
+}
@@ -0,0 +1,53 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.truBlog.data.models.Timeline;
+import org.truBlog.data.models.TimelineEntry;
+
+import java.util.List;
+
+public class TimelineRepositoryCustomImpl implements TimelineRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void pushEntry(String timelineId, TimelineEntry entry, int capacity) {
+        Update update = new Update();
+        update.push("entries").atPosition(0).slice(capacity).each(entry);
+        mongoTemplate.upsert(byId(timelineId), update, Timeline.class);
+    }
+
+    @Override
+    public void tombstoneEntry(String timelineId, String postId) {
+        Update update = new Update().set("entries.$[entry].deleted", true).filterArray(Criteria.where("entry.postId").is(postId));
+        mongoTemplate.updateFirst(byId(timelineId), update, Timeline.class);
+    }
+
+    @Override
+    public void retitleEntry(String timelineId, String postId, String title) {
+        Update update = new Update().set("entries.$[entry].title", title).filterArray(Criteria.where("entry.postId").is(postId));
+        mongoTemplate.updateFirst(byId(timelineId), update, Timeline.class);
+    }
+
+    @Override
+    public List<TimelineEntry> findNewestEntries(String timelineId, int limit) {
+        Query query = byId(timelineId);
+        query.fields().slice("entries", limit);
+        Timeline timeline = mongoTemplate.findOne(query, Timeline.class);
+        return timeline == null ? List.of() : timeline.getEntries();
+    }
+
+    @Override
+    public void replaceEntries(String timelineId, List<TimelineEntry> entries) {
+        mongoTemplate.upsert(byId(timelineId), Update.update("entries", entries), Timeline.class);
+    }
+
+    private Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
@@ -0,0 +1,7 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.truBlog.data.models.TrendingCheckpoint;
+
+public interface TrendingCheckpointRepository extends MongoRepository<TrendingCheckpoint, String> {
+}
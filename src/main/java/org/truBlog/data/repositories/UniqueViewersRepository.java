@@ -0,0 +1,11 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.truBlog.data.models.UniqueViewers;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UniqueViewersRepository extends MongoRepository<UniqueViewers, String>, UniqueViewersRepositoryCustom {
+    List<UniqueViewers> findByPostIdAndDayIn(String postId, Collection<String> days);
+}
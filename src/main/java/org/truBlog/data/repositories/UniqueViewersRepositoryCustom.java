@@ -0,0 +1,7 @@
+package org.truBlog.data.repositories;
+
+import org.truBlog.data.models.UniqueViewers;
+
+public interface UniqueViewersRepositoryCustom {
+    boolean replaceRegisters(UniqueViewers uniqueViewers, Long expectedVersion);
+}
@@ -0,0 +1,33 @@
+package org.truBlog.data.repositories;
+
+import com.mongodb.client.result.UpdateResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.truBlog.data.models.UniqueViewers;
+
+public class UniqueViewersRepositoryCustomImpl implements UniqueViewersRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean replaceRegisters(UniqueViewers uniqueViewers, Long expectedVersion) {
+        Query query = Query.query(Criteria.where("_id").is(uniqueViewers.getId()).and("version").is(expectedVersion));
+        Update update = new Update()
+                .set("registers", uniqueViewers.getRegisters())
+                .set("version", expectedVersion == null ? 1 : expectedVersion + 1)
+                .setOnInsert("postId", uniqueViewers.getPostId())
+                .setOnInsert("day", uniqueViewers.getDay())
+                .setOnInsert("node", uniqueViewers.getNode());
+        try {
+            UpdateResult updateResult = mongoTemplate.upsert(query, update, UniqueViewers.class);
+            return updateResult.getMatchedCount() > 0 || updateResult.getUpsertedId() != null;
+        } catch (DuplicateKeyException exception) {
+            return false;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package org.truBlog.data.repositories;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.truBlog.data.models.User;
+import org.truBlog.data.models.UserSummary;
 
 import java.util.Optional;
 
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
     Optional<User> findByUsername(String username);
+
+    @Query(value = "{ 'username': ?0 }", fields = "{ 'username': 1, 'password': 1 }")
+    Optional<UserSummary> findSummaryByUsername(String username);
 }
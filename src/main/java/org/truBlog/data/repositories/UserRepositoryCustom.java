@@ -0,0 +1,25 @@
+package org.truBlog.data.repositories;
+
+import org.truBlog.data.models.User;
+
+import java.util.stream.Stream;
+
+public interface UserRepositoryCustom {
+    void updatePassword(String userId, String passwordHash);
+
+    void pushPost(String userId, String postId);
+
+    void pullPost(String userId, String postId);
+
+    boolean ownsPost(String userId, String postId);
+
+    boolean upsertSystemUser(User user);
+
+    long removeUnkeyedDuplicates(String username);
+
+    Stream<User> streamUnkeyed();
+
+    boolean setUsernameKey(String userId, String usernameKey);
+
+    boolean existsUnkeyed(String username);
+}
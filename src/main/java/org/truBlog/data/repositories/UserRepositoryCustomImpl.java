@@ -0,0 +1,81 @@
+package org.truBlog.data.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.truBlog.data.models.User;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.truBlog.data.repositories.References.postReference;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void updatePassword(String userId, String passwordHash) {
+        mongoTemplate.updateFirst(byId(userId), Update.update("password", passwordHash), User.class);
+    }
+
+    @Override
+    public void pushPost(String userId, String postId) {
+        mongoTemplate.updateFirst(byId(userId), new Update().push("posts", postReference(postId)), User.class);
+    }
+
+    @Override
+    public void pullPost(String userId, String postId) {
+        mongoTemplate.updateFirst(byId(userId), new Update().pull("posts", postReference(postId)), User.class);
+    }
+
+    @Override
+    public boolean ownsPost(String userId, String postId) {
+        return mongoTemplate.exists(byId(userId).addCriteria(Criteria.where("posts").is(postReference(postId))), User.class);
+    }
+
+    @Override
+    public boolean upsertSystemUser(User user) {
+        Query query = Query.query(Criteria.where("usernameKey").is(user.getUsernameKey()));
+        Update update = new Update()
+                .setOnInsert("username", user.getUsername())
+                .setOnInsert("dateOfRegistration", user.getDateOfRegistration())
+                .setOnInsert("posts", List.of());
+        return mongoTemplate.upsert(query, update, User.class).getUpsertedId() != null;
+    }
+
+    @Override
+    public long removeUnkeyedDuplicates(String username) {
+        Query query = Query.query(Criteria.where("username").is(username).and("usernameKey").exists(false));
+        return mongoTemplate.remove(query, User.class).getDeletedCount();
+    }
+
+    @Override
+    public Stream<User> streamUnkeyed() {
+        Query query = Query.query(Criteria.where("usernameKey").exists(false));
+        query.fields().include("username", "dateOfRegistration");
+        return mongoTemplate.stream(query.with(Sort.by("dateOfRegistration", "_id")), User.class);
+    }
+
+    @Override
+    public boolean setUsernameKey(String userId, String usernameKey) {
+        Query query = byId(userId).addCriteria(Criteria.where("usernameKey").exists(false));
+        return mongoTemplate.updateFirst(query, Update.update("usernameKey", usernameKey), User.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean existsUnkeyed(String username) {
+        Query query = Query.query(Criteria.where("usernameKey").exists(false)
+                .and("username").regex("^" + Pattern.quote(username) + "$", "i"));
+        return mongoTemplate.exists(query, User.class);
+    }
+
+    private Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
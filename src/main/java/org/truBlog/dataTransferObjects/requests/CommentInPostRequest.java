@@ -6,5 +6,6 @@ import lombok.Data;
 public class CommentInPostRequest {
     private String postId;
     private String username;
+    private String token;
     private String comment;
 }
@@ -5,6 +5,7 @@ import lombok.Data;
 @Data
 public class CreatePostRequest {
     private String username;
+    private String token;
     private String title;
     private String content;
 
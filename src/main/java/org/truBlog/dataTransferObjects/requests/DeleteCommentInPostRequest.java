@@ -0,0 +1,11 @@
+package org.truBlog.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class DeleteCommentInPostRequest {
+    private String username;
+    private String token;
+    private String postId;
+    private String commentId;
+}
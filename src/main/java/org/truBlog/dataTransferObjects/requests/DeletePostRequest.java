@@ -5,6 +5,7 @@ import lombok.Data;
 @Data
 public class DeletePostRequest {
     private String username;
+    private String token;
     private String postId;
 
 }
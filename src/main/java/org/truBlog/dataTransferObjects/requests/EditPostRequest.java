@@ -6,6 +6,7 @@ import lombok.Data;
 public class EditPostRequest {
     private String postId;
     private String username;
+    private String token;
     private String editedTitle;
     private String editedContent;
 }
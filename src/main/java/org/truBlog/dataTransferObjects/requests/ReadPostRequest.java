@@ -0,0 +1,12 @@
+package org.truBlog.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class ReadPostRequest {
+    private String postId;
+    private String cursor;
+    private int size;
+    private String token;
+    private String clientAddress;
+}
@@ -0,0 +1,11 @@
+package org.truBlog.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class ReadPostRevisionRequest {
+    private String postId;
+    private int revision;
+    private String token;
+    private String clientAddress;
+}
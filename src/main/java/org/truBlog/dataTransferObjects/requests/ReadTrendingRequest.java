@@ -0,0 +1,10 @@
+package org.truBlog.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class ReadTrendingRequest {
+    private int size;
+    private String token;
+    private String clientAddress;
+}
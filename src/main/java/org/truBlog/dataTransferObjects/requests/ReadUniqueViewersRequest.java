@@ -0,0 +1,11 @@
+package org.truBlog.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class ReadUniqueViewersRequest {
+    private String postId;
+    private int days;
+    private String token;
+    private String clientAddress;
+}
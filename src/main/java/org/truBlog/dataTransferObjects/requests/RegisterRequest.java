@@ -8,5 +8,5 @@ public class RegisterRequest {
     private String lastName;
     private String username;
     private String password;
-    private boolean isLocked;
+    private String clientAddress;
 }
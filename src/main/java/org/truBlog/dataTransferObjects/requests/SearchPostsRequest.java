@@ -0,0 +1,12 @@
+package org.truBlog.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class SearchPostsRequest {
+    private String query;
+    private int page;
+    private int size;
+    private String token;
+    private String clientAddress;
+}
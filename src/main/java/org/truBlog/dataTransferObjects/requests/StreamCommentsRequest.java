@@ -0,0 +1,10 @@
+package org.truBlog.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class StreamCommentsRequest {
+    private String postId;
+    private String token;
+    private String clientAddress;
+}
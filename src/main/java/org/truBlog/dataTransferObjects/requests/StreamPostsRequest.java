@@ -0,0 +1,10 @@
+package org.truBlog.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class StreamPostsRequest {
+    private String username;
+    private String token;
+    private String clientAddress;
+}
@@ -6,5 +6,7 @@ import lombok.Data;
 public class ViewPostRequest {
     private String id;
     private String username;
+    private String token;
+    private String clientAddress;
 
 }
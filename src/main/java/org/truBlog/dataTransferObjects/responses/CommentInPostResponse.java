@@ -1,8 +1,8 @@
 package org.truBlog.dataTransferObjects.responses;
 
-import lombok.Data;
+import lombok.Value;
 
-@Data
+@Value
 public class CommentInPostResponse {
     private String commentId;
     private String comment;
@@ -1,8 +1,8 @@
 package org.truBlog.dataTransferObjects.responses;
 
-import lombok.Data;
+import lombok.Value;
 
-@Data
+@Value
 public class CreatePostResponse {
     private String id;
     private String title;
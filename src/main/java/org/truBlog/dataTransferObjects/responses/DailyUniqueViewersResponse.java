@@ -0,0 +1,9 @@
+package org.truBlog.dataTransferObjects.responses;
+
+import lombok.Value;
+
+@Value
+public class DailyUniqueViewersResponse {
+    private String day;
+    private long uniqueViewers;
+}
@@ -0,0 +1,10 @@
+package org.truBlog.dataTransferObjects.responses;
+
+import lombok.Value;
+
+@Value
+public class DeleteCommentInPostResponse {
+    private String commentId;
+    private String comment;
+    private String postId;
+}
@@ -1,10 +1,11 @@
 package org.truBlog.dataTransferObjects.responses;
 
-import lombok.Data;
+import lombok.Value;
 
-@Data
+@Value
 public class EditPostResponse {
     private String id;
     private String title;
     private String dateEdited;
+    private int revision;
 }
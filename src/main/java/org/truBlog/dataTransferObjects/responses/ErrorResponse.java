@@ -0,0 +1,8 @@
+package org.truBlog.dataTransferObjects.responses;
+
+import lombok.Value;
+
+@Value
+public class ErrorResponse {
+    private String message;
+}
@@ -0,0 +1,11 @@
+package org.truBlog.dataTransferObjects.responses;
+
+import lombok.Value;
+
+@Value
+public class FeedEntryResponse {
+    private String postId;
+    private String title;
+    private String authorUsername;
+    private String dateCreated;
+}
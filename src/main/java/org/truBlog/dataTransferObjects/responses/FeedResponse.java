@@ -0,0 +1,10 @@
+package org.truBlog.dataTransferObjects.responses;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class FeedResponse {
+    private List<FeedEntryResponse> entries;
+}
@@ -1,9 +1,10 @@
 package org.truBlog.dataTransferObjects.responses;
 
-import lombok.Data;
+import lombok.Value;
 
-@Data
+@Value
 public class LoginResponse {
     private String id;
     private String username;
+    private String token;
 }
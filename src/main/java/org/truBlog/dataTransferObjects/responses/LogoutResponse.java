@@ -1,9 +1,9 @@
 package org.truBlog.dataTransferObjects.responses;
 
 
-import lombok.Data;
+import lombok.Value;
 
-@Data
+@Value
 public class LogoutResponse {
     private String id;
     private String username;
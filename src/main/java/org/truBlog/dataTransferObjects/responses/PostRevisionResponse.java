@@ -0,0 +1,12 @@
+package org.truBlog.dataTransferObjects.responses;
+
+import lombok.Value;
+
+@Value
+public class PostRevisionResponse {
+    private String postId;
+    private int revision;
+    private String title;
+    private String content;
+    private String dateEdited;
+}
@@ -0,0 +1,10 @@
+package org.truBlog.dataTransferObjects.responses;
+
+import lombok.Value;
+
+@Value
+public class PostSummaryResponse {
+    private String id;
+    private String title;
+    private String dateCreated;
+}
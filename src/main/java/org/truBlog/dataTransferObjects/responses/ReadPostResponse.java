@@ -0,0 +1,16 @@
+package org.truBlog.dataTransferObjects.responses;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class ReadPostResponse {
+    private String id;
+    private String title;
+    private String content;
+    private String dateCreated;
+    private long viewCount;
+    private List<CommentInPostResponse> comments;
+    private String nextCursor;
+}
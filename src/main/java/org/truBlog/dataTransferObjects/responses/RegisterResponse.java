@@ -1,10 +1,9 @@
 package org.truBlog.dataTransferObjects.responses;
 
-import lombok.Data;
+import lombok.Value;
 
-import java.time.LocalDateTime;
 
-@Data
+@Value
 public class RegisterResponse {
     private String id;
     private String username;
@@ -0,0 +1,10 @@
+package org.truBlog.dataTransferObjects.responses;
+
+import lombok.Value;
+
+@Value
+public class SearchHitResponse {
+    private String postId;
+    private String title;
+    private float score;
+}
@@ -0,0 +1,13 @@
+package org.truBlog.dataTransferObjects.responses;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class SearchPostsResponse {
+    private List<SearchHitResponse> hits;
+    private long totalHits;
+    private int page;
+    private boolean partial;
+}
@@ -0,0 +1,13 @@
+package org.truBlog.dataTransferObjects.responses;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class UniqueViewersResponse {
+    private String postId;
+    private long uniqueViewers;
+    private double standardError;
+    private List<DailyUniqueViewersResponse> days;
+}
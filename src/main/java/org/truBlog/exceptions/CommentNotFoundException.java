@@ -0,0 +1,7 @@
+package org.truBlog.exceptions;
+
+public class CommentNotFoundException extends RuntimeException {
+    public CommentNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.truBlog.exceptions;
+
+public class RevisionNotFoundException extends RuntimeException {
+    public RevisionNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,67 @@
+package org.truBlog.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class ReferenceSizeMetrics implements MeterBinder {
+
+    private final ReferenceSize postComments = new ReferenceSize("Posts", "comments");
+    private final ReferenceSize userPosts = new ReferenceSize("Users", "posts");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        postComments.bindTo(meterRegistry);
+        userPosts.bindTo(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${trublog.metrics.reference-sizes.initial-delay-ms:300000}", fixedDelayString = "${trublog.metrics.reference-sizes.interval-ms:3600000}")
+    public void sample() {
+        postComments.sample(mongoTemplate);
+        userPosts.sample(mongoTemplate);
+    }
+
+    private static class ReferenceSize {
+        private final String collection;
+        private final String field;
+        private volatile double max;
+        private volatile double mean;
+
+        private ReferenceSize(String collection, String field) {
+            this.collection = collection;
+            this.field = field;
+        }
+
+        private void bindTo(MeterRegistry meterRegistry) {
+            Gauge.builder("trublog.references.size", this, referenceSize -> referenceSize.max)
+                    .tags("collection", collection, "reference", field, "statistic", "max")
+                    .register(meterRegistry);
+            Gauge.builder("trublog.references.size", this, referenceSize -> referenceSize.mean)
+                    .tags("collection", collection, "reference", field, "statistic", "mean")
+                    .register(meterRegistry);
+        }
+
+        private void sample(MongoTemplate mongoTemplate) {
+            Aggregation aggregation = Aggregation.newAggregation(
+                    Aggregation.project().and(ArrayOperators.Size.lengthOfArray(ConditionalOperators.ifNull(field).then(List.of()))).as("size"),
+                    Aggregation.group().max("size").as("max").avg("size").as("mean"));
+            Document sizes = mongoTemplate.aggregate(aggregation, collection, Document.class).getUniqueMappedResult();
+            max = sizes == null ? 0 : sizes.get("max", Number.class).doubleValue();
+            mean = sizes == null ? 0 : sizes.get("mean", Number.class).doubleValue();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.truBlog.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.truBlog.exceptions.*;
+
+import java.util.Set;
+
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    private static final Set<Class<? extends RuntimeException>> DOMAIN_EXCEPTIONS = Set.of(
+            UserNotFoundException.class,
+            PostNotFoundException.class,
+            ProfileLockStateException.class,
+            InvalidPasswordException.class,
+            CommentNotFoundException.class,
+            RevisionNotFoundException.class,
+            ServiceBusyException.class,
+            RateLimitExceededException.class);
+
+    private final ThreadLocal<int[]> callDepth = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("within(org.truBlog.services.UserServiceImplementation)"
+            + " || within(org.truBlog.services.PostServiceImplementation)"
+            + " || within(org.truBlog.services.CommentServiceImplementation)"
+            + " || within(org.truBlog.services.ViewServiceImplementation)")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getTarget().getClass().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String outcome = "success";
+        int[] depth = callDepth.get();
+        depth[0]++;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable exception) {
+            outcome = exception.getClass().getSimpleName();
+            if (depth[0] == 1 && DOMAIN_EXCEPTIONS.contains(exception.getClass())) {
+                meterRegistry.counter("trublog.exceptions", "exception", outcome, "service", service, "method", method).increment();
+            }
+            throw exception;
+        } finally {
+            depth[0]--;
+            sample.stop(Timer.builder("trublog.service.invocations")
+                    .tag("service", service)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.truBlog.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.truBlog.services.ViewWriteBehindService;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ViewWriteBehindMetrics implements MeterBinder {
+
+    @Autowired
+    private ViewWriteBehindService viewWriteBehindService;
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("trublog.views.write-behind.queue.depth", viewWriteBehindService, ViewWriteBehindService::getQueueDepth)
+                .register(meterRegistry);
+        Gauge.builder("trublog.views.write-behind.batch.size", viewWriteBehindService, ViewWriteBehindService::getLastBatchSize)
+                .register(meterRegistry);
+        TimeGauge.builder("trublog.views.write-behind.flush.latency", viewWriteBehindService, TimeUnit.NANOSECONDS, ViewWriteBehindService::getLastFlushLatencyNanos)
+                .register(meterRegistry);
+        FunctionCounter.builder("trublog.views.write-behind.batches", viewWriteBehindService, ViewWriteBehindService::getFlushedBatches)
+                .register(meterRegistry);
+        FunctionCounter.builder("trublog.views.write-behind.views", viewWriteBehindService, ViewWriteBehindService::getFlushedViews)
+                .register(meterRegistry);
+        FunctionCounter.builder("trublog.views.write-behind.rejected", viewWriteBehindService, ViewWriteBehindService::getRejectedViews)
+                .register(meterRegistry);
+        FunctionCounter.builder("trublog.views.write-behind.failures", viewWriteBehindService, ViewWriteBehindService::getFailedBatches)
+                .register(meterRegistry);
+        FunctionCounter.builder("trublog.views.write-behind.dropped", viewWriteBehindService, ViewWriteBehindService::getDroppedViews)
+                .register(meterRegistry);
+    }
+}
@@ -1,7 +1,6 @@
 package org.truBlog.services;
 
 import org.truBlog.data.models.Comment;
-import org.truBlog.data.models.Post;
 import org.truBlog.data.models.User;
 import org.truBlog.dataTransferObjects.requests.CommentInPostRequest;
 import org.truBlog.dataTransferObjects.requests.DeleteCommentInPostRequest;
@@ -10,5 +9,5 @@ import org.truBlog.dataTransferObjects.responses.DeleteCommentInPostResponse;
 public interface CommentService {
     Comment commentOnPost(CommentInPostRequest commentInPostRequest, User user);
 
-    DeleteCommentInPostResponse deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest, Post post);
+    DeleteCommentInPostResponse deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest, User user);
 }
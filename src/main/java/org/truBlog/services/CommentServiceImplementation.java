@@ -3,7 +3,6 @@ package org.truBlog.services;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.truBlog.data.models.Comment;
-import org.truBlog.data.models.Post;
 import org.truBlog.data.models.User;
 import org.truBlog.data.repositories.CommentRepository;
 import org.truBlog.dataTransferObjects.requests.CommentInPostRequest;
@@ -13,6 +12,8 @@ import org.truBlog.dataTransferObjects.responses.DeleteCommentInPostResponse;
 import org.truBlog.dataTransferObjects.responses.DeletePostResponse;
 import org.truBlog.exceptions.CommentNotFoundException;
 
+import java.util.Optional;
+
 import static org.truBlog.utilities.Mappers.*;
 
 @Service
@@ -24,25 +25,29 @@ public class CommentServiceImplementation implements CommentService {
     @Override
     public Comment commentOnPost(CommentInPostRequest commentInPostRequest, User user) {
         Comment comment = commentOnPostRequestMap(commentInPostRequest, user);
-        return commentRepository.save(comment);
+        commentRepository.save(comment);
+        return comment;
     }
 
     @Override
-    public DeleteCommentInPostResponse deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest, Post post) {
-        Comment comment = findCommentById(deleteCommentInPostRequest.getCommentId(), post);
-        if (!deleteCommentInPostRequest.getUsername().equals(comment.getCommenter().getUsername())) throw new IllegalArgumentException(String.format("User %s did not make comment", deleteCommentInPostRequest.getUsername()));
-        DeleteCommentInPostResponse deleteCommentInPostResponse = deleteCommentInPostResponseMap(comment, post);
+    public DeleteCommentInPostResponse deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest, User user) {
+        Comment comment = findCommentById(deleteCommentInPostRequest.getCommentId(), deleteCommentInPostRequest.getPostId());
+        if (!isCommenter(comment, user)) throw new IllegalArgumentException(String.format("User %s did not make comment", deleteCommentInPostRequest.getUsername()));
+        DeleteCommentInPostResponse deleteCommentInPostResponse = deleteCommentInPostResponseMap(comment);
         commentRepository.delete(comment);
         return deleteCommentInPostResponse;
     }
 
-    private Comment findCommentById(String id, Post post) {
-        for(int count = 0; count < post.getComments().size(); count++) {
-            if (post.getComments().get(count).getId().equals(id)) {
-                return post.getComments().get(count);
-            }
-        }
-        throw new CommentNotFoundException("Comment does not exist");
+    private Comment findCommentById(String id, String postId) {
+        Optional<Comment> comment = commentRepository.findByIdAndPostId(id, postId);
+        if (comment.isEmpty()) throw new CommentNotFoundException("Comment does not exist");
+        return comment.get();
+    }
+
+    private boolean isCommenter(Comment comment, User user) {
+        if (comment.getCommenterId() != null) return comment.getCommenterId().equals(user.getId());
+        if (comment.getCommenterUsername() != null) return comment.getCommenterUsername().equals(user.getUsername());
+        return comment.getCommenter().getUsername().equals(user.getUsername());
     }
 
 
@@ -0,0 +1,17 @@
+package org.truBlog.services;
+
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.StoredContent;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ContentService {
+    StoredContent store(String content);
+
+    String read(Post post);
+
+    String read(StoredContent storedContent);
+
+    Map<String, String> readAll(Collection<Post> posts);
+}
@@ -0,0 +1,146 @@
+package org.truBlog.services;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.truBlog.data.models.ContentBlob;
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.StoredContent;
+import org.truBlog.data.repositories.ContentBlobRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+public class ContentServiceImplementation implements ContentService {
+
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+    @Autowired
+    private ContentBlobRepository contentBlobRepository;
+
+    @Value("${trublog.content.inline-threshold-bytes:4096}")
+    private int inlineThresholdBytes;
+
+    @Value("${trublog.content.cache.maximum-bytes:67108864}")
+    private long maximumCachedBytes;
+
+    private final ExecutorService loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private AsyncCache<String, String> contents;
+
+    @PostConstruct
+    private void createCache() {
+        contents = Caffeine.newBuilder()
+                .maximumWeight(maximumCachedBytes)
+                .<String, String>weigher((hash, content) -> content.length() * 2)
+                .executor(loadExecutor)
+                .buildAsync();
+    }
+
+    @PreDestroy
+    private void stop() {
+        loadExecutor.shutdownNow();
+    }
+
+    @Override
+    public StoredContent store(String content) {
+        if (content == null) return new StoredContent(null, null);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < inlineThresholdBytes) return new StoredContent(content, null);
+        String hash = hash(bytes);
+        if (contents.synchronous().getIfPresent(hash) == null && !contentBlobRepository.existsById(hash)) {
+            try {
+                contentBlobRepository.insert(contentBlob(hash, bytes));
+            } catch (DuplicateKeyException ignored) {
+            }
+        }
+        contents.synchronous().put(hash, content);
+        return new StoredContent(null, hash);
+    }
+
+    @Override
+    public String read(Post post) {
+        return read(new StoredContent(post.getContent(), post.getContentHash()));
+    }
+
+    @Override
+    public String read(StoredContent storedContent) {
+        if (storedContent.hash() == null) return storedContent.inline();
+        return join(contents.get(storedContent.hash(), (hash, executor) -> CompletableFuture.supplyAsync(() -> contentBlobRepository.findById(hash)
+                .map(ContentServiceImplementation::decode)
+                .orElseThrow(() -> new IllegalStateException(String.format("Content %s is missing", hash))), executor)));
+    }
+
+    @Override
+    public Map<String, String> readAll(Collection<Post> posts) {
+        Set<String> hashes = new HashSet<>();
+        for (Post post : posts) {
+            if (post.getContentHash() != null) hashes.add(post.getContentHash());
+        }
+        Map<String, String> contentsByHash = new HashMap<>(contents.synchronous().getAllPresent(hashes));
+        hashes.removeAll(contentsByHash.keySet());
+        for (ContentBlob contentBlob : contentBlobRepository.findAllById(hashes)) {
+            String content = decode(contentBlob);
+            contents.synchronous().put(contentBlob.getId(), content);
+            contentsByHash.put(contentBlob.getId(), content);
+        }
+        Map<String, String> contentsByPostId = new HashMap<>();
+        for (Post post : posts) {
+            String content = post.getContentHash() == null ? post.getContent() : contentsByHash.get(post.getContentHash());
+            if (content != null) contentsByPostId.put(post.getId(), content);
+        }
+        return contentsByPostId;
+    }
+
+    private static <T> T join(CompletableFuture<T> load) {
+        try {
+            return load.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw exception;
+        }
+    }
+
+    private static ContentBlob contentBlob(String hash, byte[] bytes) {
+        byte[] compressed = COMPRESSOR.compress(bytes);
+        ContentBlob contentBlob = new ContentBlob();
+        contentBlob.setId(hash);
+        contentBlob.setLength(bytes.length);
+        contentBlob.setCompressed(compressed.length < bytes.length);
+        contentBlob.setData(contentBlob.isCompressed() ? compressed : bytes);
+        return contentBlob;
+    }
+
+    private static String decode(ContentBlob contentBlob) {
+        byte[] bytes = contentBlob.isCompressed() ? DECOMPRESSOR.decompress(contentBlob.getData(), contentBlob.getLength()) : contentBlob.getData();
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package org.truBlog.services;
+
+public interface PasswordService {
+    String hash(String password);
+
+    boolean verify(String password, String passwordHash);
+
+    boolean needsRehash(String passwordHash);
+}
@@ -0,0 +1,152 @@
+package org.truBlog.services;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.truBlog.exceptions.ServiceBusyException;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+public class PasswordServiceImplementation implements PasswordService {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2-sha256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${trublog.passwords.iterations:600000}")
+    private int iterations;
+
+    @Value("${trublog.passwords.threads:0}")
+    private int threads;
+
+    @Value("${trublog.passwords.queue-capacity:64}")
+    private int queueCapacity;
+
+    private final SecureRandom random = new SecureRandom();
+    private ThreadPoolExecutor executor;
+    private Timer hashingTimer;
+    private Timer queueWaitTimer;
+
+    @PostConstruct
+    private void start() {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> Thread.ofPlatform().name("password-hashing-" + sequence.incrementAndGet()).daemon().unstarted(runnable),
+                new ThreadPoolExecutor.AbortPolicy());
+        hashingTimer = Timer.builder("trublog.passwords.hashing").register(meterRegistry);
+        queueWaitTimer = Timer.builder("trublog.passwords.queue.wait").register(meterRegistry);
+        Gauge.builder("trublog.passwords.queue.depth", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    @PreDestroy
+    private void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        int cost = iterations;
+        byte[] hash = submit(() -> derive(password, salt, cost));
+        return String.join("$", PREFIX, Integer.toString(cost), Base64.getEncoder().encodeToString(salt), Base64.getEncoder().encodeToString(hash));
+    }
+
+    @Override
+    public boolean verify(String password, String passwordHash) {
+        if (password == null || passwordHash == null) return false;
+        if (!isDerived(passwordHash)) return MessageDigest.isEqual(password.getBytes(UTF_8), passwordHash.getBytes(UTF_8));
+        DerivedHash derivedHash = parse(passwordHash);
+        if (derivedHash == null) return false;
+        byte[] actual = submit(() -> derive(password, derivedHash.salt(), derivedHash.cost()));
+        return MessageDigest.isEqual(derivedHash.hash(), actual);
+    }
+
+    @Override
+    public boolean needsRehash(String passwordHash) {
+        if (passwordHash == null || !isDerived(passwordHash)) return true;
+        DerivedHash derivedHash = parse(passwordHash);
+        return derivedHash == null || derivedHash.cost() != iterations;
+    }
+
+    private static boolean isDerived(String passwordHash) {
+        return passwordHash.startsWith(PREFIX + "$");
+    }
+
+    private static DerivedHash parse(String passwordHash) {
+        String[] fields = passwordHash.split("\\$");
+        if (fields.length != 4) return null;
+        try {
+            int cost = Integer.parseInt(fields[1]);
+            byte[] salt = Base64.getDecoder().decode(fields[2]);
+            byte[] hash = Base64.getDecoder().decode(fields[3]);
+            if (cost <= 0 || salt.length == 0 || hash.length == 0) return null;
+            return new DerivedHash(cost, salt, hash);
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    private byte[] submit(Callable<byte[]> derivation) {
+        long submittedAt = System.nanoTime();
+        Future<byte[]> result;
+        try {
+            result = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashingTimer.recordCallable(derivation);
+            });
+        } catch (RejectedExecutionException exception) {
+            throw new ServiceBusyException("Too many logins in progress. Please try again shortly");
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException exception) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Password check was interrupted. Please try again");
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    private record DerivedHash(int cost, byte[] salt, byte[] hash) {
+    }
+
+    private static byte[] derive(String password, byte[] salt, int cost) {
+        PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, cost, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(keySpec).getEncoded();
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+}
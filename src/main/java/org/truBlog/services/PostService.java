@@ -6,12 +6,16 @@ import org.truBlog.dataTransferObjects.requests.*;
 import org.truBlog.dataTransferObjects.responses.CommentInPostResponse;
 import org.truBlog.dataTransferObjects.responses.DeleteCommentInPostResponse;
 import org.truBlog.dataTransferObjects.responses.DeletePostResponse;
+import org.truBlog.dataTransferObjects.responses.PostRevisionResponse;
+import org.truBlog.dataTransferObjects.responses.PostSummaryResponse;
+import org.truBlog.dataTransferObjects.responses.ReadPostResponse;
 import org.truBlog.dataTransferObjects.responses.ViewPostResponse;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostService {
-    Post createPost(CreatePostRequest createPostRequest);
+    Post createPost(CreatePostRequest createPostRequest, User user);
 
     Post editPost(EditPostRequest editPostRequest, User user);
 
@@ -19,6 +23,16 @@ public interface PostService {
 
     ViewPostResponse viewPost(ViewPostRequest viewPostRequest, User user);
 
+    ReadPostResponse readPost(ReadPostRequest readPostRequest);
+
+    PostRevisionResponse readPostRevision(ReadPostRevisionRequest readPostRevisionRequest);
+
+    String readPostTag(ReadPostRequest readPostRequest);
+
+    Stream<PostSummaryResponse> streamPostsByAuthor(String authorId);
+
+    Stream<CommentInPostResponse> streamComments(String postId);
+
     CommentInPostResponse commentInPost(CommentInPostRequest commentInPostRequest, User user);
 
     DeleteCommentInPostResponse deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest, User user);
@@ -1,21 +1,33 @@
 package org.truBlog.services;
 
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.truBlog.data.WriteTransactions;
 import org.truBlog.data.models.Comment;
 import org.truBlog.data.models.Post;
+import org.truBlog.data.models.PostVersion;
+import org.truBlog.data.models.StoredContent;
 import org.truBlog.data.models.User;
 import org.truBlog.data.models.View;
+import org.truBlog.data.repositories.CommentRepository;
 import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.PostViewCountRepository;
 import org.truBlog.dataTransferObjects.requests.*;
 import org.truBlog.dataTransferObjects.responses.CommentInPostResponse;
 import org.truBlog.dataTransferObjects.responses.DeleteCommentInPostResponse;
 import org.truBlog.dataTransferObjects.responses.DeletePostResponse;
+import org.truBlog.dataTransferObjects.responses.PostRevisionResponse;
+import org.truBlog.dataTransferObjects.responses.PostSummaryResponse;
+import org.truBlog.dataTransferObjects.responses.ReadPostResponse;
 import org.truBlog.dataTransferObjects.responses.ViewPostResponse;
-import org.truBlog.exceptions.CommentNotFoundException;
 import org.truBlog.exceptions.PostNotFoundException;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.truBlog.utilities.Mappers.*;
 
@@ -23,80 +35,157 @@ import static org.truBlog.utilities.Mappers.*;
 @Service
 public class PostServiceImplementation implements PostService {
 
+    private static final int DEFAULT_COMMENT_PAGE_SIZE = 20;
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostViewCountRepository postViewCountRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
     @Autowired
     private ViewService viewService;
 
+    @Autowired
+    private ViewCountService viewCountService;
+
     @Autowired
     private CommentService commentService;
 
+    @Autowired
+    private ContentService contentService;
+
+    @Autowired
+    private RevisionService revisionService;
+
+    @Autowired
+    private WriteTransactions writeTransactions;
+
     @Override
-    public Post createPost(CreatePostRequest createPostRequest) {
-        Post newPost = createPostRequestMap(createPostRequest);
+    public Post createPost(CreatePostRequest createPostRequest, User user) {
+        Post newPost = createPostRequestMap(createPostRequest, user, contentService.store(createPostRequest.getContent()));
         postRepository.save(newPost);
         return newPost;
     }
 
-    private Post findPostById(String id) {
-        Optional<Post> post = postRepository.findById(id);
-        if (post.isEmpty()) throw new PostNotFoundException(String.format("Post %s does not Exist", id));
-        return post.get();
+    private void validatePostExists(String id) {
+        if (!postRepository.existsById(id)) throw new PostNotFoundException(String.format("Post %s does not Exist", id));
     }
 
     @Override
     public Post editPost(EditPostRequest editPostRequest, User user) {
-        Post post = editPostRequestMap(editPostRequest, user);
-        postRepository.save(post);
-        return post;
+        StoredContent editedContent = editPostRequest.getEditedContent() == null ? null : contentService.store(editPostRequest.getEditedContent());
+        LocalDateTime editedAt = LocalDateTime.now();
+        return writeTransactions.execute(() -> {
+            Optional<Post> previousPost = postRepository.updateTitleAndContent(editPostRequest.getPostId(), editPostRequest.getEditedTitle(), editedContent, editedAt);
+            if (previousPost.isEmpty()) throw new PostNotFoundException(String.format("Post %s does not Exist", editPostRequest.getPostId()));
+            if (editPostRequest.getEditedTitle() == null && editedContent == null) return previousPost.get();
+            Post editedPost = editPostRequestMap(previousPost.get(), editPostRequest, editedContent, editedAt);
+            revisionService.recordEdit(previousPost.get(), editedPost);
+            return editedPost;
+        });
     }
 
     @Override
     public DeletePostResponse deletePost(DeletePostRequest deletePostRequest, User user) {
-        Post post = findPostById(deletePostRequest.getPostId());
-        DeletePostResponse deletePostResponse = deletePostResponseMap(post);
-        postRepository.delete(post);
+        Optional<Post> post = postRepository.findTitleById(deletePostRequest.getPostId());
+        if (post.isEmpty()) throw new PostNotFoundException(String.format("Post %s does not Exist", deletePostRequest.getPostId()));
+        DeletePostResponse deletePostResponse = deletePostResponseMap(post.get());
+        postRepository.deleteById(post.get().getId());
+        postViewCountRepository.deleteById(post.get().getId());
+        revisionService.deleteRevisions(post.get().getId());
         return deletePostResponse;
     }
 
     @Override
     public ViewPostResponse viewPost(ViewPostRequest viewPostRequest, User user) {
-        Post post = findPostById(viewPostRequest.getId());
+        validatePostExists(viewPostRequest.getId());
         View view = viewService.viewPost(viewPostRequest, user);
-        post.getViews().add(view);
-        postRepository.save(post);
         return viewPostResponseMap(view);
     }
 
     @Override
-    public CommentInPostResponse commentInPost(CommentInPostRequest commentInPostRequest, User user) {
-        Post post = findPostById(commentInPostRequest.getPostId());
-        Comment newComment = commentService.commentOnPost(commentInPostRequest,  user);
-        View newView = viewService.commentOnPost(commentInPostRequest, user, post);
-        post.getViews().add(newView);
-        post.getComments().add(newComment);
-        postRepository.save(post);
-        return commentOnPostResponseMap(newComment);
+    public ReadPostResponse readPost(ReadPostRequest readPostRequest) {
+        Optional<Post> post = postRepository.findHeaderById(readPostRequest.getPostId());
+        if (post.isEmpty()) throw new PostNotFoundException(String.format("Post %s does not Exist", readPostRequest.getPostId()));
+        int size = commentPageSize(readPostRequest);
+        List<Comment> comments = findCommentPage(post.get().getId(), commentCursor(readPostRequest), size);
+        String nextCursor = comments.size() == size ? comments.getLast().getId() : null;
+        return readPostResponseMap(post.get(), contentService.read(post.get()), viewCountService.countViews(post.get().getId()), comments, nextCursor);
     }
 
     @Override
-    public DeleteCommentInPostResponse deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest, User user) {
-        Post post = findPostById(deleteCommentInPostRequest.getPostId());
-        DeleteCommentInPostResponse deleteCommentInPostResponse = commentService.deleteCommentInPost(deleteCommentInPostRequest, post);
-        Comment comment = findCommentById(deleteCommentInPostRequest.getCommentId(), post);
-        post.getComments().remove(comment);
-        postRepository.save(post);
-        return deleteCommentInPostResponse;
+    public PostRevisionResponse readPostRevision(ReadPostRevisionRequest readPostRevisionRequest) {
+        Optional<Post> post = postRepository.findHeaderById(readPostRevisionRequest.getPostId());
+        if (post.isEmpty()) throw new PostNotFoundException(String.format("Post %s does not Exist", readPostRevisionRequest.getPostId()));
+        return postRevisionResponseMap(revisionService.readRevision(post.get(), readPostRevisionRequest.getRevision()));
+    }
+
+    @Override
+    public String readPostTag(ReadPostRequest readPostRequest) {
+        int size = commentPageSize(readPostRequest);
+        ObjectId cursor = commentCursor(readPostRequest);
+        Optional<PostVersion> postVersion = postRepository.findVersionById(readPostRequest.getPostId());
+        if (postVersion.isEmpty()) throw new PostNotFoundException(String.format("Post %s does not Exist", readPostRequest.getPostId()));
+        long viewCount = viewCountService.countViews(postVersion.get().id());
+        String page = cursor == null ? "head" : cursor.toHexString();
+        return String.format("W/\"%d.%d.%s.%d\"", postVersion.get().version(), viewCount, page, size);
     }
 
-    private Comment findCommentById(String id, Post post) {
-        for(int count = 0; count < post.getComments().size(); count++) {
-            if (post.getComments().get(count).getId().equals(id)) {
-                return post.getComments().get(count);
+    @Override
+    public Stream<PostSummaryResponse> streamPostsByAuthor(String authorId) {
+        return postRepository.streamNewestByAuthorId(authorId).map(post -> postSummaryResponseMap(post));
+    }
+
+    @Override
+    public Stream<CommentInPostResponse> streamComments(String postId) {
+        validatePostExists(postId);
+        return commentRepository.streamNewestByPostId(postId).map(comment -> commentOnPostResponseMap(comment));
+    }
+
+    private List<Comment> findCommentPage(String postId, ObjectId cursor, int size) {
+        if (cursor == null) return commentRepository.findNewestByPostId(postId, PageRequest.ofSize(size));
+        return commentRepository.findNewestByPostIdBefore(postId, cursor, PageRequest.ofSize(size));
+    }
+
+    private static int commentPageSize(ReadPostRequest readPostRequest) {
+        return readPostRequest.getSize() <= 0 ? DEFAULT_COMMENT_PAGE_SIZE : Math.min(readPostRequest.getSize(), MAX_COMMENT_PAGE_SIZE);
+    }
+
+    private static ObjectId commentCursor(ReadPostRequest readPostRequest) {
+        String cursor = readPostRequest.getCursor();
+        if (cursor == null) return null;
+        if (!ObjectId.isValid(cursor)) throw new IllegalArgumentException(String.format("Cursor %s is not valid", cursor));
+        return new ObjectId(cursor);
+    }
+
+    @Override
+    public CommentInPostResponse commentInPost(CommentInPostRequest commentInPostRequest, User user) {
+        validatePostExists(commentInPostRequest.getPostId());
+        Comment newComment = writeTransactions.execute(() -> {
+            Comment comment = commentService.commentOnPost(commentInPostRequest,  user);
+            if (!postRepository.pushComment(commentInPostRequest.getPostId(), comment.getId())) {
+                commentRepository.delete(comment);
+                throw new PostNotFoundException(String.format("Post %s does not Exist", commentInPostRequest.getPostId()));
             }
-        }
-        throw new CommentNotFoundException("Comment does not exist");
+            return comment;
+        });
+        viewService.commentOnPost(commentInPostRequest, user);
+        return commentOnPostResponseMap(newComment);
+    }
+
+    @Override
+    public DeleteCommentInPostResponse deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest, User user) {
+        validatePostExists(deleteCommentInPostRequest.getPostId());
+        return writeTransactions.execute(() -> {
+            DeleteCommentInPostResponse deleteCommentInPostResponse = commentService.deleteCommentInPost(deleteCommentInPostRequest, user);
+            postRepository.pullComment(deleteCommentInPostRequest.getPostId(), deleteCommentInPostRequest.getCommentId());
+            return deleteCommentInPostResponse;
+        });
     }
 
 
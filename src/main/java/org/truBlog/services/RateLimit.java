@@ -0,0 +1,10 @@
+package org.truBlog.services;
+
+public enum RateLimit {
+    USER_READS,
+    USER_WRITES,
+    POST_READS,
+    ADDRESS_READS,
+    ADDRESS_WRITES,
+    POST_WRITES
+}
@@ -0,0 +1,9 @@
+package org.truBlog.services;
+
+public interface RateLimitService {
+    void acquire(RateLimit rateLimit, String key);
+
+    int evictIdleKeys();
+
+    int countTrackedKeys();
+}
@@ -0,0 +1,123 @@
+package org.truBlog.services;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.truBlog.exceptions.RateLimitExceededException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class RateLimitServiceImplementation implements RateLimitService {
+
+    @Value("${trublog.rate-limits.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trublog.rate-limits.user-reads.per-second:50}")
+    private double userReadsPerSecond;
+
+    @Value("${trublog.rate-limits.user-reads.burst:100}")
+    private int userReadsBurst;
+
+    @Value("${trublog.rate-limits.user-writes.per-second:5}")
+    private double userWritesPerSecond;
+
+    @Value("${trublog.rate-limits.user-writes.burst:20}")
+    private int userWritesBurst;
+
+    @Value("${trublog.rate-limits.post-reads.per-second:1000}")
+    private double postReadsPerSecond;
+
+    @Value("${trublog.rate-limits.post-reads.burst:2000}")
+    private int postReadsBurst;
+
+    @Value("${trublog.rate-limits.address-reads.per-second:50}")
+    private double addressReadsPerSecond;
+
+    @Value("${trublog.rate-limits.address-reads.burst:100}")
+    private int addressReadsBurst;
+
+    @Value("${trublog.rate-limits.address-writes.per-second:1}")
+    private double addressWritesPerSecond;
+
+    @Value("${trublog.rate-limits.address-writes.burst:10}")
+    private int addressWritesBurst;
+
+    @Value("${trublog.rate-limits.post-writes.per-second:50}")
+    private double postWritesPerSecond;
+
+    @Value("${trublog.rate-limits.post-writes.burst:100}")
+    private int postWritesBurst;
+
+    private final Map<RateLimit, Limit> limits = new EnumMap<>(RateLimit.class);
+
+    @PostConstruct
+    private void createLimits() {
+        limits.put(RateLimit.USER_READS, new Limit(userReadsPerSecond, userReadsBurst));
+        limits.put(RateLimit.USER_WRITES, new Limit(userWritesPerSecond, userWritesBurst));
+        limits.put(RateLimit.POST_READS, new Limit(postReadsPerSecond, postReadsBurst));
+        limits.put(RateLimit.ADDRESS_READS, new Limit(addressReadsPerSecond, addressReadsBurst));
+        limits.put(RateLimit.ADDRESS_WRITES, new Limit(addressWritesPerSecond, addressWritesBurst));
+        limits.put(RateLimit.POST_WRITES, new Limit(postWritesPerSecond, postWritesBurst));
+    }
+
+    @Override
+    public void acquire(RateLimit rateLimit, String key) {
+        if (!enabled || key == null) return;
+        Limit limit = limits.get(rateLimit);
+        long retryAfterNanos = limit.tryAcquire(key, System.nanoTime());
+        if (retryAfterNanos > 0) {
+            throw new RateLimitExceededException("Too many requests. Please slow down", Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${trublog.rate-limits.eviction-interval-ms:60000}")
+    public int evictIdleKeys() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Limit limit : limits.values()) evicted += limit.evictIdle(now);
+        return evicted;
+    }
+
+    @Override
+    public int countTrackedKeys() {
+        int trackedKeys = 0;
+        for (Limit limit : limits.values()) trackedKeys += limit.buckets.size();
+        return trackedKeys;
+    }
+
+    private static class Limit {
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+        private Limit(double perSecond, int burst) {
+            this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / perSecond));
+            this.toleranceNanos = intervalNanos * Math.max(1, burst);
+        }
+
+        private long tryAcquire(String key, long now) {
+            AtomicLong theoreticalArrival = buckets.get(key);
+            if (theoreticalArrival == null) theoreticalArrival = buckets.computeIfAbsent(key, absent -> new AtomicLong(now));
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long nextArrival = (arrival - now > 0 ? arrival : now) + intervalNanos;
+                long backlog = nextArrival - now;
+                if (backlog > toleranceNanos) return backlog - toleranceNanos;
+                if (theoreticalArrival.compareAndSet(arrival, nextArrival)) return 0;
+            }
+        }
+
+        private int evictIdle(long now) {
+            int before = buckets.size();
+            buckets.values().removeIf(theoreticalArrival -> theoreticalArrival.get() - now <= 0);
+            return before - buckets.size();
+        }
+    }
+}
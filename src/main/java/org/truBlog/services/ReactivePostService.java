@@ -0,0 +1,27 @@
+package org.truBlog.services;
+
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.User;
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.dataTransferObjects.responses.CommentInPostResponse;
+import org.truBlog.dataTransferObjects.responses.DeleteCommentInPostResponse;
+import org.truBlog.dataTransferObjects.responses.DeletePostResponse;
+import org.truBlog.dataTransferObjects.responses.ReadPostResponse;
+import org.truBlog.dataTransferObjects.responses.ViewPostResponse;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePostService {
+    Mono<Post> createPost(CreatePostRequest createPostRequest, User user);
+
+    Mono<Post> editPost(EditPostRequest editPostRequest, User user);
+
+    Mono<DeletePostResponse> deletePost(DeletePostRequest deletePostRequest, User user);
+
+    Mono<ViewPostResponse> viewPost(ViewPostRequest viewPostRequest, User user);
+
+    Mono<ReadPostResponse> readPost(ReadPostRequest readPostRequest);
+
+    Mono<CommentInPostResponse> commentInPost(CommentInPostRequest commentInPostRequest, User user);
+
+    Mono<DeleteCommentInPostResponse> deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest, User user);
+}
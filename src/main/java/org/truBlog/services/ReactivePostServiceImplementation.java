@@ -0,0 +1,186 @@
+package org.truBlog.services;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.truBlog.data.models.Comment;
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.PostViewCount;
+import org.truBlog.data.models.StoredContent;
+import org.truBlog.data.models.User;
+import org.truBlog.data.models.View;
+import org.truBlog.data.repositories.ReactiveCommentRepository;
+import org.truBlog.data.repositories.ReactivePostRepository;
+import org.truBlog.data.repositories.ReactivePostViewCountRepository;
+import org.truBlog.data.repositories.ReactiveViewRepository;
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.dataTransferObjects.responses.CommentInPostResponse;
+import org.truBlog.dataTransferObjects.responses.DeleteCommentInPostResponse;
+import org.truBlog.dataTransferObjects.responses.DeletePostResponse;
+import org.truBlog.dataTransferObjects.responses.ReadPostResponse;
+import org.truBlog.dataTransferObjects.responses.ViewPostResponse;
+import org.truBlog.exceptions.CommentNotFoundException;
+import org.truBlog.exceptions.PostNotFoundException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.truBlog.utilities.Mappers.*;
+
+@Service
+@Profile("reactive")
+public class ReactivePostServiceImplementation implements ReactivePostService {
+
+    private static final int DEFAULT_COMMENT_PAGE_SIZE = 20;
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
+    @Autowired
+    private ReactivePostRepository postRepository;
+
+    @Autowired
+    private ReactivePostViewCountRepository postViewCountRepository;
+
+    @Autowired
+    private ReactiveCommentRepository commentRepository;
+
+    @Autowired
+    private ReactiveViewRepository viewRepository;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private UniqueViewerService uniqueViewerService;
+
+    @Autowired
+    private ContentService contentService;
+
+    @Autowired
+    private RevisionService revisionService;
+
+    @Override
+    public Mono<Post> createPost(CreatePostRequest createPostRequest, User user) {
+        return storeContent(createPostRequest.getContent())
+                .flatMap(storedContent -> postRepository.save(createPostRequestMap(createPostRequest, user, storedContent)));
+    }
+
+    private Mono<StoredContent> storeContent(String content) {
+        return Mono.fromCallable(() -> contentService.store(content)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<Void> validatePostExists(String id) {
+        return postRepository.existsById(id)
+                .flatMap(exists -> exists ? Mono.<Void>empty() : Mono.error(postNotFound(id)));
+    }
+
+    private static PostNotFoundException postNotFound(String id) {
+        return new PostNotFoundException(String.format("Post %s does not Exist", id));
+    }
+
+    @Override
+    public Mono<Post> editPost(EditPostRequest editPostRequest, User user) {
+        Mono<Optional<StoredContent>> editedContent = editPostRequest.getEditedContent() == null ? Mono.just(Optional.empty()) : storeContent(editPostRequest.getEditedContent()).map(Optional::of);
+        LocalDateTime editedAt = LocalDateTime.now();
+        return editedContent.flatMap(storedContent -> postRepository.updateTitleAndContent(editPostRequest.getPostId(), editPostRequest.getEditedTitle(), storedContent.orElse(null), editedAt)
+                .switchIfEmpty(Mono.error(() -> postNotFound(editPostRequest.getPostId())))
+                .flatMap(previousPost -> {
+                    if (editPostRequest.getEditedTitle() == null && storedContent.isEmpty()) return Mono.just(previousPost);
+                    Post editedPost = editPostRequestMap(previousPost, editPostRequest, storedContent.orElse(null), editedAt);
+                    return Mono.fromRunnable(() -> revisionService.recordEdit(previousPost, editedPost))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .thenReturn(editedPost);
+                }));
+    }
+
+    @Override
+    public Mono<DeletePostResponse> deletePost(DeletePostRequest deletePostRequest, User user) {
+        return postRepository.findHeaderById(deletePostRequest.getPostId())
+                .switchIfEmpty(Mono.error(() -> postNotFound(deletePostRequest.getPostId())))
+                .flatMap(post -> Mono.when(postRepository.deleteById(post.getId()), postViewCountRepository.deleteById(post.getId()),
+                                Mono.fromRunnable(() -> revisionService.deleteRevisions(post.getId())).subscribeOn(Schedulers.boundedElastic()))
+                        .thenReturn(deletePostResponseMap(post)));
+    }
+
+    @Override
+    public Mono<ViewPostResponse> viewPost(ViewPostRequest viewPostRequest, User user) {
+        return validatePostExists(viewPostRequest.getId())
+                .then(Mono.defer(() -> saveView(user, viewPostRequest.getId())))
+                .map(view -> viewPostResponseMap(view));
+    }
+
+    private Mono<View> saveView(User user, String postId) {
+        View newView = createViewPost(user, postId);
+        return viewRepository.insert(newView)
+                .doOnSuccess(view -> {
+                    viewCountService.recordView(view.getPostId(), view.getViewer());
+                    trendingService.recordView(view.getPostId());
+                    uniqueViewerService.recordView(view.getPostId(), view.getViewer());
+                });
+    }
+
+    @Override
+    public Mono<ReadPostResponse> readPost(ReadPostRequest readPostRequest) {
+        int size = readPostRequest.getSize() <= 0 ? DEFAULT_COMMENT_PAGE_SIZE : Math.min(readPostRequest.getSize(), MAX_COMMENT_PAGE_SIZE);
+        Mono<Post> post = postRepository.findHeaderById(readPostRequest.getPostId())
+                .switchIfEmpty(Mono.error(() -> postNotFound(readPostRequest.getPostId())));
+        Mono<Long> viewCount = postViewCountRepository.findById(readPostRequest.getPostId())
+                .map(PostViewCount::getViewCount)
+                .defaultIfEmpty(0L)
+                .map(persistedViews -> persistedViews + viewCountService.countPendingViews(readPostRequest.getPostId()));
+        return Mono.zip(post, findCommentPage(readPostRequest.getPostId(), readPostRequest.getCursor(), size).collectList(), viewCount)
+                .flatMap(page -> Mono.fromCallable(() -> {
+                    String nextCursor = page.getT2().size() == size ? page.getT2().getLast().getId() : null;
+                    return readPostResponseMap(page.getT1(), contentService.read(page.getT1()), page.getT3(), page.getT2(), nextCursor);
+                }).subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private Flux<Comment> findCommentPage(String postId, String cursor, int size) {
+        if (cursor == null) return commentRepository.findNewestByPostId(postId, PageRequest.ofSize(size));
+        if (!ObjectId.isValid(cursor)) return Flux.error(new IllegalArgumentException(String.format("Cursor %s is not valid", cursor)));
+        return commentRepository.findNewestByPostIdBefore(postId, new ObjectId(cursor), PageRequest.ofSize(size));
+    }
+
+    @Override
+    public Mono<CommentInPostResponse> commentInPost(CommentInPostRequest commentInPostRequest, User user) {
+        String postId = commentInPostRequest.getPostId();
+        return validatePostExists(postId)
+                .then(Mono.defer(() -> {
+                    Comment newComment = commentOnPostRequestMap(commentInPostRequest, user);
+                    newComment.setId(new ObjectId().toHexString());
+                    return Mono.zipDelayError(commentRepository.insert(newComment), saveView(user, postId))
+                            .map(saved -> saved.getT1())
+                            .onErrorResume(error -> commentRepository.deleteById(newComment.getId()).onErrorComplete().then(Mono.error(error)));
+                }))
+                .flatMap(comment -> postRepository.pushComment(postId, comment.getId())
+                        .flatMap(pushed -> pushed
+                                ? Mono.just(commentOnPostResponseMap(comment)).doOnSuccess(response -> trendingService.recordComment(postId))
+                                : commentRepository.delete(comment).then(Mono.<CommentInPostResponse>error(postNotFound(postId)))));
+    }
+
+    @Override
+    public Mono<DeleteCommentInPostResponse> deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest, User user) {
+        String postId = deleteCommentInPostRequest.getPostId();
+        return validatePostExists(postId)
+                .then(commentRepository.findByIdAndPostId(deleteCommentInPostRequest.getCommentId(), postId))
+                .switchIfEmpty(Mono.error(() -> new CommentNotFoundException("Comment does not exist")))
+                .flatMap(comment -> {
+                    if (!isCommenter(comment, user)) return Mono.error(new IllegalArgumentException(String.format("User %s did not make comment", deleteCommentInPostRequest.getUsername())));
+                    return commentRepository.delete(comment)
+                            .then(postRepository.pullComment(postId, comment.getId()))
+                            .thenReturn(deleteCommentInPostResponseMap(comment));
+                });
+    }
+
+    private boolean isCommenter(Comment comment, User user) {
+        if (comment.getCommenterId() != null) return comment.getCommenterId().equals(user.getId());
+        return user.getUsername().equals(comment.getCommenterUsername());
+    }
+}
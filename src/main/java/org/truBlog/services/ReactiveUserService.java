@@ -0,0 +1,19 @@
+package org.truBlog.services;
+
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.dataTransferObjects.responses.*;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserService {
+    Mono<RegisterResponse> signUp(RegisterRequest registerRequest);
+    Mono<LoginResponse> login(LoginRequest loginRequest);
+    Mono<LogoutResponse> logout(LogoutRequest logoutRequest);
+    Mono<CreatePostResponse> createPost(CreatePostRequest createPostRequest);
+    Mono<EditPostResponse> editPost(EditPostRequest editPostRequest);
+    Mono<DeletePostResponse> deletePost(DeletePostRequest deletePostRequest);
+    Mono<ViewPostResponse> viewPost(ViewPostRequest viewPostRequest);
+    Mono<ReadPostResponse> readPost(ReadPostRequest readPostRequest);
+    Mono<CommentInPostResponse> commentInPost(CommentInPostRequest commentInPostRequest);
+
+    Mono<DeleteCommentInPostResponse> deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest);
+}
@@ -0,0 +1,168 @@
+package org.truBlog.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.truBlog.data.models.Session;
+import org.truBlog.data.models.UserSummary;
+import org.truBlog.data.repositories.ReactivePostRepository;
+import org.truBlog.data.repositories.ReactiveUserRepository;
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.dataTransferObjects.responses.*;
+import org.truBlog.exceptions.InvalidPasswordException;
+import org.truBlog.exceptions.PostNotFoundException;
+import org.truBlog.exceptions.UserNotFoundException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+
+import static org.truBlog.utilities.Mappers.*;
+
+@Service
+@Profile("reactive")
+public class ReactiveUserServiceImplementation implements ReactiveUserService {
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private ReactivePostRepository postRepository;
+
+    @Autowired
+    private ReactivePostService postService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private PasswordService passwordService;
+
+    @Autowired
+    private TimelineService timelineService;
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Override
+    public Mono<RegisterResponse> signUp(RegisterRequest registerRequest) {
+        return Mono.fromRunnable(() -> {
+                    UserServiceImplementation.validateInputs(registerRequest);
+                    rateLimitService.acquire(RateLimit.ADDRESS_WRITES, registerRequest.getClientAddress());
+                })
+                .then(Mono.fromCallable(() -> passwordService.hash(registerRequest.getPassword())).subscribeOn(Schedulers.boundedElastic()))
+                .flatMap(passwordHash -> userRepository.insert(registerRequestMap(registerRequest, passwordHash)))
+                .onErrorMap(DuplicateKeyException.class, exception -> new IllegalArgumentException("Username Exists. Please enter a different username"))
+                .map(user -> registerResponseMap(user));
+    }
+
+    private Mono<UserSummary> findUserSummary(String username) {
+        if (username == null) return Mono.error(new UserNotFoundException(String.format("%s does not exist", username)));
+        return userRepository.findSummaryByUsername(username)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException(String.format("%s does not exist", username))));
+    }
+
+    private Mono<Session> authenticate(String token, String username, String rejectionMessage, String postId) {
+        return Mono.fromCallable(() -> {
+            Session session = sessionService.authenticate(token, username, rejectionMessage);
+            rateLimitService.acquire(RateLimit.USER_WRITES, session.username());
+            rateLimitService.acquire(RateLimit.POST_WRITES, postId);
+            return session;
+        });
+    }
+
+    private Mono<Void> throttleCallerRead(String token, String clientAddress, String postId) {
+        return Mono.fromRunnable(() -> {
+            Optional<Session> session = sessionService.findSession(token);
+            if (session.isPresent()) rateLimitService.acquire(RateLimit.USER_READS, session.get().username());
+            else rateLimitService.acquire(RateLimit.ADDRESS_READS, clientAddress);
+            rateLimitService.acquire(RateLimit.POST_READS, postId);
+        });
+    }
+
+    @Override
+    public Mono<LoginResponse> login(LoginRequest loginRequest) {
+        return Mono.fromRunnable(() -> rateLimitService.acquire(RateLimit.ADDRESS_WRITES, loginRequest.getClientAddress()))
+                .then(Mono.defer(() -> findUserSummary(loginRequest.getUsername())))
+                .flatMap(userSummary -> Mono.fromCallable(() -> passwordService.verify(loginRequest.getPassword(), userSummary.password()))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMap(verified -> verified ? rehashIfNeeded(userSummary, loginRequest.getPassword()) : Mono.error(new InvalidPasswordException("Invalid Login Details")))
+                        .then(Mono.fromCallable(() -> loginResponseMap(userReferenceMap(userSummary), sessionService.issue(userSummary.id(), userSummary.username())))));
+    }
+
+    private Mono<Void> rehashIfNeeded(UserSummary userSummary, String password) {
+        if (!passwordService.needsRehash(userSummary.password())) return Mono.empty();
+        return Mono.fromCallable(() -> passwordService.hash(password))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(passwordHash -> userRepository.updatePassword(userSummary.id(), passwordHash));
+    }
+
+    @Override
+    public Mono<LogoutResponse> logout(LogoutRequest logoutRequest) {
+        return authenticate(logoutRequest.getToken(), logoutRequest.getUsername(), "Please login to logout", null)
+                .map(session -> {
+                    sessionService.revoke(session);
+                    return logoutResponseMap(sessionUserMap(session));
+                });
+    }
+
+    @Override
+    public Mono<CreatePostResponse> createPost(CreatePostRequest createPostRequest) {
+        return authenticate(createPostRequest.getToken(), createPostRequest.getUsername(), "Please login to create a post", null)
+                .flatMap(session -> postService.createPost(createPostRequest, sessionUserMap(session))
+                        .flatMap(post -> userRepository.pushPost(session.userId(), post.getId()).thenReturn(createPostResponseMap(post))));
+    }
+
+    @Override
+    public Mono<EditPostResponse> editPost(EditPostRequest editPostRequest) {
+        return authenticate(editPostRequest.getToken(), editPostRequest.getUsername(), "Please login to edit post", editPostRequest.getPostId())
+                .flatMap(session -> validatePostOwnership(editPostRequest.getPostId(), session.userId())
+                        .then(postService.editPost(editPostRequest, sessionUserMap(session))))
+                .flatMap(post -> editPostRequest.getEditedTitle() == null ? Mono.just(post)
+                        : Mono.fromRunnable(() -> timelineService.retitle(post.getId(), post.getTitle())).subscribeOn(Schedulers.boundedElastic()).thenReturn(post))
+                .map(post -> editPostResponseMap(post));
+    }
+
+    @Override
+    public Mono<DeletePostResponse> deletePost(DeletePostRequest deletePostRequest) {
+        return authenticate(deletePostRequest.getToken(), deletePostRequest.getUsername(), "Please login to delete post", deletePostRequest.getPostId())
+                .flatMap(session -> validatePostOwnership(deletePostRequest.getPostId(), session.userId())
+                        .then(postService.deletePost(deletePostRequest, sessionUserMap(session)))
+                        .flatMap(deletePostResponse -> userRepository.pullPost(session.userId(), deletePostRequest.getPostId()).thenReturn(deletePostResponse)));
+    }
+
+    private Mono<Void> validatePostOwnership(String postId, String userId) {
+        return postRepository.existsByIdAndAuthorId(postId, userId)
+                .flatMap(authored -> authored ? Mono.just(true) : userRepository.ownsPost(userId, postId))
+                .flatMap(owned -> owned ? Mono.<Void>empty() : Mono.error(new PostNotFoundException(String.format("Post %s does not exist in your collection. Please Create a Post", postId))));
+    }
+
+    @Override
+    public Mono<ViewPostResponse> viewPost(ViewPostRequest viewPostRequest) {
+        return throttleCallerRead(viewPostRequest.getToken(), viewPostRequest.getClientAddress(), viewPostRequest.getId())
+                .then(Mono.defer(() -> {
+                    if (viewPostRequest.getUsername() == null) return postService.viewPost(viewPostRequest, createAnonymousUserMap());
+                    return findUserSummary(viewPostRequest.getUsername())
+                            .flatMap(userSummary -> postService.viewPost(viewPostRequest, userReferenceMap(userSummary)));
+                }));
+    }
+
+    @Override
+    public Mono<ReadPostResponse> readPost(ReadPostRequest readPostRequest) {
+        return throttleCallerRead(readPostRequest.getToken(), readPostRequest.getClientAddress(), readPostRequest.getPostId())
+                .then(Mono.defer(() -> postService.readPost(readPostRequest)));
+    }
+
+    @Override
+    public Mono<CommentInPostResponse> commentInPost(CommentInPostRequest commentInPostRequest) {
+        return authenticate(commentInPostRequest.getToken(), commentInPostRequest.getUsername(), "Please login to comment in the post", commentInPostRequest.getPostId())
+                .flatMap(session -> postService.commentInPost(commentInPostRequest, sessionUserMap(session)));
+    }
+
+    @Override
+    public Mono<DeleteCommentInPostResponse> deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest) {
+        return authenticate(deleteCommentInPostRequest.getToken(), deleteCommentInPostRequest.getUsername(), "Please login to delete comment", deleteCommentInPostRequest.getPostId())
+                .flatMap(session -> postService.deleteCommentInPost(deleteCommentInPostRequest, sessionUserMap(session)));
+    }
+}
@@ -0,0 +1,12 @@
+package org.truBlog.services;
+
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.Revision;
+
+public interface RevisionService {
+    void recordEdit(Post previousPost, Post editedPost);
+
+    Revision readRevision(Post post, int revision);
+
+    void deleteRevisions(String postId);
+}
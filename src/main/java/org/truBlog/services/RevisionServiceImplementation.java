@@ -0,0 +1,120 @@
+package org.truBlog.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.PostRevision;
+import org.truBlog.data.models.Revision;
+import org.truBlog.data.models.StoredContent;
+import org.truBlog.data.repositories.PostRevisionRepository;
+import org.truBlog.exceptions.RevisionNotFoundException;
+import org.truBlog.utilities.BinaryDelta;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class RevisionServiceImplementation implements RevisionService {
+
+    @Autowired
+    private PostRevisionRepository postRevisionRepository;
+
+    @Autowired
+    private ContentService contentService;
+
+    @Value("${trublog.revisions.snapshot-interval:16}")
+    private int snapshotInterval;
+
+    @Override
+    public void recordEdit(Post previousPost, Post editedPost) {
+        List<PostRevision> revisions = new ArrayList<>(2);
+        if (!postRevisionRepository.existsById(revisionId(previousPost.getId(), previousPost.getRevision()))) {
+            revisions.add(snapshot(previousPost, editedAt(previousPost)));
+        }
+        if (editedPost.getRevision() % snapshotInterval == 0) {
+            revisions.add(snapshot(editedPost, editedPost.getEditedAt()));
+        } else {
+            byte[] previousContent = bytes(contentService.read(previousPost));
+            byte[] editedContent = bytes(contentService.read(editedPost));
+            byte[] delta = BinaryDelta.diff(previousContent, editedContent);
+            revisions.add(delta.length * 2 < editedContent.length ? delta(editedPost, delta) : snapshot(editedPost, editedPost.getEditedAt()));
+        }
+        postRevisionRepository.saveAll(revisions);
+    }
+
+    @Override
+    public Revision readRevision(Post post, int revision) {
+        if (revision < 0 || revision > post.getRevision()) throw revisionNotFound(post.getId(), revision);
+        if (revision == post.getRevision()) return new Revision(post.getId(), revision, post.getTitle(), contentService.read(post), editedAt(post));
+
+        List<PostRevision> snapshots = postRevisionRepository.findSnapshotsAtOrBefore(post.getId(), revision, PageRequest.ofSize(1));
+        if (snapshots.isEmpty()) throw revisionNotFound(post.getId(), revision);
+        PostRevision latest = snapshots.getFirst();
+        byte[] content = bytes(contentService.read(new StoredContent(latest.getContent(), latest.getContentHash())));
+        for (PostRevision postRevision : postRevisionRepository.findRevisionsBetween(post.getId(), latest.getRevision(), revision)) {
+            if (postRevision.getRevision() != latest.getRevision() + 1) throw revisionUnavailable(post.getId(), revision);
+            try {
+                content = BinaryDelta.apply(content, postRevision.getDelta());
+            } catch (IllegalArgumentException exception) {
+                throw revisionUnavailable(post.getId(), revision);
+            }
+            latest = postRevision;
+        }
+        if (latest.getRevision() != revision) throw revisionUnavailable(post.getId(), revision);
+        return new Revision(post.getId(), revision, latest.getTitle(), new String(content, StandardCharsets.UTF_8), latest.getEditedAt());
+    }
+
+    @Override
+    public void deleteRevisions(String postId) {
+        postRevisionRepository.deleteByPostId(postId);
+    }
+
+    private static PostRevision snapshot(Post post, LocalDateTime editedAt) {
+        PostRevision postRevision = revision(post, editedAt);
+        postRevision.setSnapshot(true);
+        postRevision.setContent(post.getContent());
+        postRevision.setContentHash(post.getContentHash());
+        return postRevision;
+    }
+
+    private static PostRevision delta(Post post, byte[] delta) {
+        PostRevision postRevision = revision(post, post.getEditedAt());
+        postRevision.setDelta(delta);
+        return postRevision;
+    }
+
+    private static PostRevision revision(Post post, LocalDateTime editedAt) {
+        PostRevision postRevision = new PostRevision();
+        postRevision.setId(revisionId(post.getId(), post.getRevision()));
+        postRevision.setPostId(post.getId());
+        postRevision.setRevision(post.getRevision());
+        postRevision.setTitle(post.getTitle());
+        postRevision.setEditedAt(editedAt);
+        return postRevision;
+    }
+
+    private static String revisionId(String postId, int revision) {
+        return postId + ":" + revision;
+    }
+
+    private static LocalDateTime editedAt(Post post) {
+        return post.getEditedAt() == null ? post.getDateCreated() : post.getEditedAt();
+    }
+
+    private static byte[] bytes(String content) {
+        return Objects.requireNonNullElse(content, "").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static RevisionNotFoundException revisionNotFound(String postId, int revision) {
+        return new RevisionNotFoundException(String.format("Revision %d of post %s does not Exist", revision, postId));
+    }
+
+    private static RevisionNotFoundException revisionUnavailable(String postId, int revision) {
+        return new RevisionNotFoundException(String.format("Revision %d of post %s cannot be reconstructed, its history is incomplete", revision, postId));
+    }
+}
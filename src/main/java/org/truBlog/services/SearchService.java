@@ -0,0 +1,16 @@
+package org.truBlog.services;
+
+import org.truBlog.dataTransferObjects.requests.SearchPostsRequest;
+import org.truBlog.dataTransferObjects.responses.SearchPostsResponse;
+
+public interface SearchService {
+    void markDirty(String postId);
+
+    void indexDirtyPosts();
+
+    SearchPostsResponse search(SearchPostsRequest searchPostsRequest);
+
+    long reindexAll();
+
+    boolean isCurrent();
+}
@@ -0,0 +1,289 @@
+package org.truBlog.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.QueryTimeoutImpl;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParserBase;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.truBlog.data.models.Comment;
+import org.truBlog.data.models.Post;
+import org.truBlog.data.repositories.CommentRepository;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.dataTransferObjects.requests.SearchPostsRequest;
+import org.truBlog.dataTransferObjects.responses.SearchHitResponse;
+import org.truBlog.dataTransferObjects.responses.SearchPostsResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Service
+public class SearchServiceImplementation implements SearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_HIT_DEPTH = 1000;
+    private static final int REINDEX_BATCH_SIZE = 500;
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of("title", 3f, "content", 1f, "comments", 0.5f);
+    private static final String INDEX_STATE = "state";
+    private static final String CLOSED_CLEANLY = "closed";
+    private static final String OPEN = "open";
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ContentService contentService;
+
+    @Value("${trublog.search.directory:}")
+    private String indexDirectory;
+
+    @Value("${trublog.search.time-budget-ms:200}")
+    private long timeBudgetMillis;
+
+    @Value("${trublog.search.reindex-threads:0}")
+    private int reindexThreads;
+
+    private final Set<String> dirtyPostIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong(System.currentTimeMillis());
+    private volatile Set<String> reindexMarks;
+    private boolean closedCleanly;
+    private Analyzer analyzer;
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+
+    @PostConstruct
+    private void open() throws IOException {
+        analyzer = new StandardAnalyzer();
+        directory = indexDirectory.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDirectory));
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(indexWriter, null);
+        closedCleanly = CLOSED_CLEANLY.equals(commitData().get(INDEX_STATE));
+        commit(OPEN);
+    }
+
+    @PreDestroy
+    private void close() throws IOException {
+        indexDirtyPosts();
+        commit(CLOSED_CLEANLY);
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    @Override
+    public void markDirty(String postId) {
+        dirtyPostIds.add(postId);
+        Set<String> marks = reindexMarks;
+        if (marks != null) marks.add(postId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${trublog.search.refresh-interval-ms:500}")
+    public void indexDirtyPosts() {
+        if (dirtyPostIds.isEmpty()) return;
+        List<String> postIds = new ArrayList<>(dirtyPostIds);
+        postIds.forEach(dirtyPostIds::remove);
+        try {
+            for (int start = 0; start < postIds.size(); start += REINDEX_BATCH_SIZE) {
+                List<String> batch = postIds.subList(start, Math.min(start + REINDEX_BATCH_SIZE, postIds.size()));
+                Set<String> removed = new HashSet<>(batch);
+                for (Post post : indexPosts(postRepository.findTextByIdIn(batch), generation.get())) removed.remove(post.getId());
+                for (String postId : removed) indexWriter.deleteDocuments(new Term("id", postId));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException exception) {
+            dirtyPostIds.addAll(postIds);
+            throw new UncheckedIOException(exception);
+        } catch (RuntimeException exception) {
+            dirtyPostIds.addAll(postIds);
+            throw exception;
+        }
+    }
+
+    @Override
+    public SearchPostsResponse search(SearchPostsRequest searchPostsRequest) {
+        if (searchPostsRequest.getQuery() == null || searchPostsRequest.getQuery().isBlank()) throw new IllegalArgumentException("Search query cannot be empty");
+        int size = searchPostsRequest.getSize() <= 0 ? DEFAULT_PAGE_SIZE : Math.min(searchPostsRequest.getSize(), MAX_PAGE_SIZE);
+        int page = Math.max(searchPostsRequest.getPage(), 0);
+        int depth = (page + 1) * size;
+        if (depth > MAX_HIT_DEPTH) throw new IllegalArgumentException(String.format("Search results are limited to the first %d hits", MAX_HIT_DEPTH));
+
+        Query query = parse(searchPostsRequest.getQuery());
+        try {
+            IndexSearcher sharedSearcher = searcherManager.acquire();
+            try {
+                IndexSearcher searcher = new IndexSearcher(sharedSearcher.getIndexReader());
+                searcher.setTimeout(new QueryTimeoutImpl(timeBudgetMillis));
+                TopDocs topDocs = searcher.search(query, depth);
+                StoredFields storedFields = searcher.storedFields();
+                List<SearchHitResponse> hits = new ArrayList<>(size);
+                for (int index = page * size; index < topDocs.scoreDocs.length; index++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[index];
+                    Document document = storedFields.document(scoreDoc.doc);
+                    hits.add(new SearchHitResponse(document.get("id"), document.get("title"), scoreDoc.score));
+                }
+                return new SearchPostsResponse(hits, topDocs.totalHits.value, page, searcher.timedOut());
+            } finally {
+                searcherManager.release(sharedSearcher);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private Query parse(String text) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(FIELD_BOOSTS.keySet().toArray(String[]::new), analyzer, FIELD_BOOSTS);
+        try {
+            return parser.parse(QueryParserBase.escape(text));
+        } catch (ParseException exception) {
+            throw new IllegalArgumentException(String.format("Search query %s is not valid", text));
+        }
+    }
+
+    @Override
+    public long reindexAll() {
+        Set<String> marks = ConcurrentHashMap.newKeySet();
+        reindexMarks = marks;
+        long reindexGeneration = generation.incrementAndGet();
+        int threads = reindexThreads > 0 ? reindexThreads : Runtime.getRuntime().availableProcessors();
+        Semaphore inFlight = new Semaphore(threads * 2);
+        List<Future<Integer>> batches = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threads); Stream<Post> posts = postRepository.streamAllText()) {
+            List<Post> batch = new ArrayList<>(REINDEX_BATCH_SIZE);
+            for (Iterator<Post> iterator = posts.iterator(); iterator.hasNext(); ) {
+                batch.add(iterator.next());
+                if (batch.size() == REINDEX_BATCH_SIZE || !iterator.hasNext()) {
+                    List<Post> submitted = batch;
+                    inFlight.acquireUninterruptibly();
+                    batches.add(executorService.submit(() -> {
+                        try {
+                            return indexUnmarkedPosts(submitted, marks, reindexGeneration);
+                        } finally {
+                            inFlight.release();
+                        }
+                    }));
+                    batch = new ArrayList<>(REINDEX_BATCH_SIZE);
+                }
+            }
+        }
+        try {
+            long indexed = 0;
+            for (Future<Integer> batch : batches) indexed += batch.get();
+            indexWriter.deleteDocuments(LongPoint.newRangeQuery("generation", Long.MIN_VALUE, reindexGeneration - 1));
+            commit(OPEN);
+            searcherManager.maybeRefreshBlocking();
+            return indexed;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reindexing posts", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Reindexing posts failed", exception.getCause());
+        } finally {
+            reindexMarks = null;
+        }
+    }
+
+    @Override
+    public boolean isCurrent() {
+        return closedCleanly && indexWriter.getDocStats().numDocs > 0;
+    }
+
+    private int indexUnmarkedPosts(List<Post> posts, Set<String> marks, long documentGeneration) throws IOException {
+        Set<String> existing = new HashSet<>();
+        for (Post post : postRepository.findIdsByIdIn(posts.stream().map(Post::getId).toList())) existing.add(post.getId());
+        List<Post> unmarked = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            if (existing.contains(post.getId()) && !marks.contains(post.getId())) unmarked.add(post);
+        }
+        indexPosts(unmarked, documentGeneration);
+        for (Post post : unmarked) {
+            if (marks.contains(post.getId())) dirtyPostIds.add(post.getId());
+        }
+        return unmarked.size();
+    }
+
+    private Map<String, String> commitData() {
+        Map<String, String> commitData = new HashMap<>();
+        Iterable<Map.Entry<String, String>> liveCommitData = indexWriter.getLiveCommitData();
+        if (liveCommitData != null) liveCommitData.forEach(entry -> commitData.put(entry.getKey(), entry.getValue()));
+        return commitData;
+    }
+
+    private void commit(String state) throws IOException {
+        indexWriter.setLiveCommitData(Map.of(INDEX_STATE, state).entrySet());
+        indexWriter.commit();
+    }
+
+    private List<Post> indexPosts(List<Post> posts, long documentGeneration) throws IOException {
+        if (posts.isEmpty()) return posts;
+        Map<String, List<String>> comments = new HashMap<>();
+        for (Post post : posts) comments.put(post.getId(), new ArrayList<>());
+        for (Comment comment : commentRepository.findTextByPostIdIn(comments.keySet())) {
+            comments.get(comment.getPostId()).add(comment.getComment());
+        }
+        Map<String, String> contents = contentService.readAll(posts);
+        for (Post post : posts) {
+            indexWriter.updateDocument(new Term("id", post.getId()), document(post, contents.get(post.getId()), comments.get(post.getId()), documentGeneration));
+        }
+        return posts;
+    }
+
+    private static Document document(Post post, String content, List<String> comments, long documentGeneration) {
+        Document document = new Document();
+        document.add(new StringField("id", post.getId(), Field.Store.YES));
+        document.add(new TextField("title", Objects.requireNonNullElse(post.getTitle(), ""), Field.Store.YES));
+        document.add(new TextField("content", Objects.requireNonNullElse(content, ""), Field.Store.NO));
+        for (String comment : comments) {
+            if (comment != null) document.add(new TextField("comments", comment, Field.Store.NO));
+        }
+        document.add(new LongPoint("generation", documentGeneration));
+        return document;
+    }
+}
@@ -0,0 +1,17 @@
+package org.truBlog.services;
+
+import org.truBlog.data.models.Session;
+
+import java.util.Optional;
+
+public interface SessionService {
+    String issue(String userId, String username);
+
+    Session authenticate(String token, String username, String rejectionMessage);
+
+    Optional<Session> findSession(String token);
+
+    void revoke(Session session);
+
+    void sweepRevocations();
+}
@@ -0,0 +1,184 @@
+package org.truBlog.services;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.truBlog.data.models.Session;
+import org.truBlog.exceptions.ProfileLockStateException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+public class SessionServiceImplementation implements SessionService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int ENCODED_SIGNATURE_LENGTH = 43;
+    private static final int MAX_RETAINED_PAYLOAD_LENGTH = 1024;
+    private static final byte[] DECODING = decodingTable();
+
+    @Value("${trublog.sessions.secret:}")
+    private String secret;
+
+    @Value("${trublog.sessions.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentHashMap<Long, Long> revokedSessions = new ConcurrentHashMap<>();
+    private SecretKeySpec key;
+    private ThreadLocal<Scratch> scratches;
+
+    @PostConstruct
+    private void createKey() {
+        byte[] keyBytes = secret.isEmpty() ? new byte[32] : secret.getBytes(UTF_8);
+        if (secret.isEmpty()) random.nextBytes(keyBytes);
+        key = new SecretKeySpec(keyBytes, ALGORITHM);
+        scratches = ThreadLocal.withInitial(() -> new Scratch(createMac()));
+    }
+
+    @Override
+    public String issue(String userId, String username) {
+        long expiresAtMillis = System.currentTimeMillis() + ttlSeconds * 1000;
+        byte[] payload = String.join(":", Long.toString(random.nextLong()), Long.toString(expiresAtMillis), userId, username).getBytes(UTF_8);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    @Override
+    public Session authenticate(String token, String username, String rejectionMessage) {
+        Session session = findSession(token).orElseThrow(() -> new ProfileLockStateException(rejectionMessage));
+        if (username != null && !username.equals(session.username())) throw new ProfileLockStateException(rejectionMessage);
+        return session;
+    }
+
+    @Override
+    public Optional<Session> findSession(String token) {
+        Session session = token == null ? null : verify(token);
+        if (session == null || session.expiresAtMillis() <= System.currentTimeMillis() || revokedSessions.containsKey(session.id())) return Optional.empty();
+        return Optional.of(session);
+    }
+
+    @Override
+    public void revoke(Session session) {
+        revokedSessions.put(session.id(), session.expiresAtMillis());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${trublog.sessions.sweep-interval-ms:60000}")
+    public void sweepRevocations() {
+        long now = System.currentTimeMillis();
+        revokedSessions.values().removeIf(expiresAtMillis -> expiresAtMillis <= now);
+    }
+
+    private Session verify(String token) {
+        int separator = token.indexOf('.');
+        if (separator < 0 || token.length() - separator - 1 != ENCODED_SIGNATURE_LENGTH) return null;
+        Scratch scratch = scratches.get();
+        byte[] payload = scratch.payload(separator);
+        int payloadLength = decode(token, 0, separator, payload);
+        if (payloadLength < 0 || decode(token, separator + 1, token.length(), scratch.signature) != SIGNATURE_LENGTH) return null;
+        try {
+            scratch.mac.update(payload, 0, payloadLength);
+            scratch.mac.doFinal(scratch.expected, 0);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+        if (!MessageDigest.isEqual(scratch.expected, scratch.signature)) return null;
+
+        int idEnd = indexOf(payload, 0, payloadLength);
+        if (idEnd < 0) return null;
+        int expiryEnd = indexOf(payload, idEnd + 1, payloadLength);
+        if (expiryEnd < 0) return null;
+        int userIdEnd = indexOf(payload, expiryEnd + 1, payloadLength);
+        if (userIdEnd < 0) return null;
+        String userId = new String(payload, expiryEnd + 1, userIdEnd - expiryEnd - 1, UTF_8);
+        String username = new String(payload, userIdEnd + 1, payloadLength - userIdEnd - 1, UTF_8);
+        return new Session(parseLong(payload, 0, idEnd), userId, username, parseLong(payload, idEnd + 1, expiryEnd));
+    }
+
+    private byte[] sign(byte[] payload) {
+        return scratches.get().mac.doFinal(payload);
+    }
+
+    private static int decode(String source, int from, int to, byte[] target) {
+        if ((to - from) % 4 == 1 || (to - from) * 3 / 4 > target.length) return -1;
+        int bits = 0;
+        int buffered = 0;
+        int written = 0;
+        for (int index = from; index < to; index++) {
+            char next = source.charAt(index);
+            int value = next < DECODING.length ? DECODING[next] : -1;
+            if (value < 0) return -1;
+            bits = (bits << 6) | value;
+            buffered += 6;
+            if (buffered >= 8) {
+                buffered -= 8;
+                target[written++] = (byte) (bits >> buffered);
+                bits &= (1 << buffered) - 1;
+            }
+        }
+        return written;
+    }
+
+    private static int indexOf(byte[] payload, int from, int to) {
+        for (int index = from; index < to; index++) {
+            if (payload[index] == ':') return index;
+        }
+        return -1;
+    }
+
+    private static long parseLong(byte[] payload, int from, int to) {
+        boolean negative = payload[from] == '-';
+        long value = 0;
+        for (int index = negative ? from + 1 : from; index < to; index++) value = value * 10 + (payload[index] - '0');
+        return negative ? -value : value;
+    }
+
+    private static byte[] decodingTable() {
+        byte[] decoding = new byte[128];
+        Arrays.fill(decoding, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int index = 0; index < alphabet.length(); index++) decoding[alphabet.charAt(index)] = (byte) index;
+        return decoding;
+    }
+
+    private static class Scratch {
+        private final Mac mac;
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private byte[] payload = new byte[128];
+
+        private Scratch(Mac mac) {
+            this.mac = mac;
+        }
+
+        private byte[] payload(int encodedLength) {
+            int length = encodedLength * 3 / 4;
+            if (length <= payload.length) return payload;
+            if (length > MAX_RETAINED_PAYLOAD_LENGTH) return new byte[length];
+            payload = new byte[length];
+            return payload;
+        }
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
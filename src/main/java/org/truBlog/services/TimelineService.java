@@ -0,0 +1,20 @@
+package org.truBlog.services;
+
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.TimelineEntry;
+
+import java.util.List;
+
+public interface TimelineService {
+    void publish(Post post);
+
+    void tombstone(String postId);
+
+    void retitle(String postId, String title);
+
+    List<TimelineEntry> readHomeFeed(int size);
+
+    void rebuild();
+
+    boolean isBuilt();
+}
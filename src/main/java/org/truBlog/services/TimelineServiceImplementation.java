@@ -0,0 +1,173 @@
+package org.truBlog.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.TimelineEntry;
+import org.truBlog.data.models.User;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.TimelineRepository;
+import org.truBlog.data.repositories.UserRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import static org.truBlog.utilities.Mappers.timelineEntryMap;
+
+@Service
+public class TimelineServiceImplementation implements TimelineService {
+
+    static final String HOME_TIMELINE = "home";
+
+    @Autowired
+    private TimelineRepository timelineRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${trublog.timelines.capacity:500}")
+    private int capacity;
+
+    private final AtomicReference<Ring> homeRing = new AtomicReference<>();
+
+    @Override
+    public void publish(Post post) {
+        TimelineEntry timelineEntry = timelineEntryMap(post);
+        timelineRepository.pushEntry(HOME_TIMELINE, timelineEntry, capacity);
+        Ring ring = homeRing.get();
+        if (ring != null) ring.add(timelineEntry);
+    }
+
+    @Override
+    public void tombstone(String postId) {
+        timelineRepository.tombstoneEntry(HOME_TIMELINE, postId);
+        Ring ring = homeRing.get();
+        if (ring != null) ring.update(postId, entry -> entry.setDeleted(true));
+    }
+
+    @Override
+    public void retitle(String postId, String title) {
+        timelineRepository.retitleEntry(HOME_TIMELINE, postId, title);
+        Ring ring = homeRing.get();
+        if (ring != null) ring.update(postId, entry -> entry.setTitle(title));
+    }
+
+    @Override
+    public List<TimelineEntry> readHomeFeed(int size) {
+        Ring ring = homeRing.get();
+        if (ring == null) ring = reload();
+        return ring.newest(Math.min(size, capacity));
+    }
+
+    @Scheduled(initialDelayString = "${trublog.timelines.refresh-interval-ms:5000}", fixedDelayString = "${trublog.timelines.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (homeRing.get() != null) reload();
+    }
+
+    @Override
+    @Scheduled(cron = "${trublog.timelines.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        List<Post> posts = postRepository.findNewest(PageRequest.ofSize(capacity));
+        Map<String, String> usernames = findMissingAuthorUsernames(posts);
+        List<TimelineEntry> entries = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            if (post.getAuthorUsername() == null) post.setAuthorUsername(usernames.get(post.getAuthorId()));
+            entries.add(timelineEntryMap(post));
+        }
+        timelineRepository.replaceEntries(HOME_TIMELINE, entries);
+        reload();
+    }
+
+    @Override
+    public boolean isBuilt() {
+        return timelineRepository.existsById(HOME_TIMELINE);
+    }
+
+    private Map<String, String> findMissingAuthorUsernames(List<Post> posts) {
+        Set<String> authorIds = new HashSet<>();
+        for (Post post : posts) {
+            if (post.getAuthorUsername() == null && post.getAuthorId() != null) authorIds.add(post.getAuthorId());
+        }
+        Map<String, String> usernames = new HashMap<>();
+        if (authorIds.isEmpty()) return usernames;
+        for (User user : userRepository.findAllById(authorIds)) usernames.put(user.getId(), user.getUsername());
+        return usernames;
+    }
+
+    private Ring reload() {
+        List<TimelineEntry> newestFirst = timelineRepository.findNewestEntries(HOME_TIMELINE, capacity);
+        Ring ring = new Ring(capacity);
+        for (int index = newestFirst.size() - 1; index >= 0; index--) ring.add(newestFirst.get(index));
+        homeRing.set(ring);
+        return ring;
+    }
+
+    private record Slot(long sequence, TimelineEntry entry) {
+    }
+
+    private static class Ring {
+        private final AtomicReferenceArray<Slot> slots;
+        private final AtomicLong nextSequence = new AtomicLong();
+
+        private Ring(int capacity) {
+            slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        private void add(TimelineEntry entry) {
+            long sequence = nextSequence.getAndIncrement();
+            slots.set(index(sequence), new Slot(sequence, entry));
+        }
+
+        private void update(String postId, Consumer<TimelineEntry> change) {
+            for (int index = 0; index < slots.length(); index++) {
+                while (true) {
+                    Slot slot = slots.get(index);
+                    if (slot == null || !slot.entry().getPostId().equals(postId)) break;
+                    TimelineEntry updated = copy(slot.entry());
+                    change.accept(updated);
+                    if (slots.compareAndSet(index, slot, new Slot(slot.sequence(), updated))) break;
+                }
+            }
+        }
+
+        private List<TimelineEntry> newest(int size) {
+            long end = nextSequence.get();
+            long start = Math.max(0, end - slots.length());
+            List<TimelineEntry> entries = new ArrayList<>(Math.max(0, size));
+            for (long sequence = end - 1; sequence >= start && entries.size() < size; sequence--) {
+                Slot slot = slots.get(index(sequence));
+                if (slot == null || slot.sequence() != sequence || slot.entry().isDeleted()) continue;
+                entries.add(slot.entry());
+            }
+            return entries;
+        }
+
+        private int index(long sequence) {
+            return (int) (sequence % slots.length());
+        }
+
+        private static TimelineEntry copy(TimelineEntry entry) {
+            TimelineEntry copy = new TimelineEntry();
+            copy.setPostId(entry.getPostId());
+            copy.setTitle(entry.getTitle());
+            copy.setAuthorUsername(entry.getAuthorUsername());
+            copy.setDateCreated(entry.getDateCreated());
+            copy.setDeleted(entry.isDeleted());
+            return copy;
+        }
+    }
+}
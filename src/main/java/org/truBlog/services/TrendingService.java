@@ -0,0 +1,19 @@
+package org.truBlog.services;
+
+import org.truBlog.data.models.TrendingScore;
+
+import java.util.List;
+
+public interface TrendingService {
+    void recordView(String postId);
+
+    void recordComment(String postId);
+
+    void forget(String postId);
+
+    List<TrendingScore> trending(int size);
+
+    void checkpoint();
+
+    void restore();
+}
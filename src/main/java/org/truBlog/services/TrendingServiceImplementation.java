@@ -0,0 +1,266 @@
+package org.truBlog.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.truBlog.data.models.TrendingCheckpoint;
+import org.truBlog.data.models.TrendingScore;
+import org.truBlog.data.repositories.TrendingCheckpointRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class TrendingServiceImplementation implements TrendingService {
+
+    private static final String CHECKPOINT_ID = "trending";
+    private static final double MAX_EXPONENT = 50;
+
+    @Autowired
+    private TrendingCheckpointRepository trendingCheckpointRepository;
+
+    @Value("${trublog.trending.top-k:100}")
+    private int topK;
+
+    @Value("${trublog.trending.sketch-depth:4}")
+    private int sketchDepth;
+
+    @Value("${trublog.trending.sketch-width:4096}")
+    private int sketchWidth;
+
+    @Value("${trublog.trending.half-life-seconds:3600}")
+    private long halfLifeSeconds;
+
+    @Value("${trublog.trending.view-weight:1}")
+    private double viewWeight;
+
+    @Value("${trublog.trending.comment-weight:5}")
+    private double commentWeight;
+
+    private final ReentrantLock rescaleLock = new ReentrantLock();
+    private final AtomicReference<Epoch> epoch = new AtomicReference<>();
+    private double decayPerMilli;
+
+    @PostConstruct
+    private void createSketch() {
+        decayPerMilli = Math.log(2) / (halfLifeSeconds * 1000.0);
+        CountMinSketch sketch = new CountMinSketch(sketchDepth, Integer.highestOneBit(Math.max(sketchWidth, 16)));
+        epoch.set(new Epoch(System.currentTimeMillis(), sketch, new TopK(topK)));
+    }
+
+    @Override
+    public void recordView(String postId) {
+        record(postId, viewWeight);
+    }
+
+    @Override
+    public void recordComment(String postId) {
+        record(postId, commentWeight);
+    }
+
+    private void record(String postId, double weight) {
+        long now = System.currentTimeMillis();
+        Epoch current = epoch.get();
+        double exponent = decayPerMilli * (now - current.landmarkMillis());
+        if (exponent > MAX_EXPONENT) {
+            current = rescale(current, now);
+            exponent = decayPerMilli * (now - current.landmarkMillis());
+        }
+        double estimate = current.sketch().add(postId, weight * Math.exp(exponent));
+        current.top().offer(postId, estimate);
+    }
+
+    private Epoch rescale(Epoch current, long now) {
+        if (!rescaleLock.tryLock()) return epoch.get();
+        try {
+            if (epoch.get() != current) return epoch.get();
+            double factor = Math.exp(-decayPerMilli * (now - current.landmarkMillis()));
+            Epoch rescaled = new Epoch(now, current.sketch().scaled(factor), current.top().scaled(factor));
+            epoch.set(rescaled);
+            return rescaled;
+        } finally {
+            rescaleLock.unlock();
+        }
+    }
+
+    @Override
+    public void forget(String postId) {
+        epoch.get().top().remove(postId);
+    }
+
+    @Override
+    public List<TrendingScore> trending(int size) {
+        Epoch current = epoch.get();
+        List<TrendingScore> scores = current.top().snapshot();
+        double decay = Math.exp(-decayPerMilli * (System.currentTimeMillis() - current.landmarkMillis()));
+        scores.sort(Comparator.comparingDouble(TrendingScore::score).reversed());
+        List<TrendingScore> trending = new ArrayList<>(Math.min(size, scores.size()));
+        for (int index = 0; index < scores.size() && index < size; index++) {
+            trending.add(new TrendingScore(scores.get(index).postId(), scores.get(index).score() * decay));
+        }
+        return trending;
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(initialDelayString = "${trublog.trending.checkpoint-interval-ms:60000}", fixedDelayString = "${trublog.trending.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        Epoch current = epoch.get();
+        TrendingCheckpoint trendingCheckpoint = new TrendingCheckpoint();
+        trendingCheckpoint.setId(CHECKPOINT_ID);
+        trendingCheckpoint.setLandmarkMillis(current.landmarkMillis());
+        trendingCheckpoint.setDepth(current.sketch().depth);
+        trendingCheckpoint.setWidth(current.sketch().width);
+        trendingCheckpoint.setSketch(current.sketch().toArray());
+        trendingCheckpoint.setTopPosts(current.top().snapshot());
+        trendingCheckpointRepository.save(trendingCheckpoint);
+    }
+
+    @Override
+    public void restore() {
+        trendingCheckpointRepository.findById(CHECKPOINT_ID).ifPresent(trendingCheckpoint -> {
+            Epoch current = epoch.get();
+            if (trendingCheckpoint.getDepth() != current.sketch().depth || trendingCheckpoint.getWidth() != current.sketch().width) return;
+            double factor = Math.exp(-decayPerMilli * (current.landmarkMillis() - trendingCheckpoint.getLandmarkMillis()));
+            double[] cells = trendingCheckpoint.getSketch();
+            for (int cell = 0; cell < cells.length; cell++) current.sketch().raiseCell(cell, cells[cell] * factor);
+            for (TrendingScore trendingScore : trendingCheckpoint.getTopPosts()) {
+                current.top().offer(trendingScore.postId(), current.sketch().estimate(trendingScore.postId()));
+            }
+        });
+    }
+
+    private record Epoch(long landmarkMillis, CountMinSketch sketch, TopK top) {
+    }
+
+    private static class CountMinSketch {
+        private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+                0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L};
+
+        private final int depth;
+        private final int width;
+        private final AtomicLongArray cells;
+
+        private CountMinSketch(int depth, int width) {
+            this.depth = Math.min(Math.max(depth, 1), SEEDS.length);
+            this.width = width;
+            this.cells = new AtomicLongArray(this.depth * width);
+        }
+
+        private double add(String key, double weight) {
+            double estimate = Double.MAX_VALUE;
+            for (int row = 0; row < depth; row++) estimate = Math.min(estimate, addToCell(cell(row, key), weight));
+            return estimate;
+        }
+
+        private double addToCell(int cell, double weight) {
+            while (true) {
+                long bits = cells.get(cell);
+                double updated = Double.longBitsToDouble(bits) + weight;
+                if (cells.compareAndSet(cell, bits, Double.doubleToRawLongBits(updated))) return updated;
+            }
+        }
+
+        private void raiseCell(int cell, double value) {
+            while (true) {
+                long bits = cells.get(cell);
+                if (Double.longBitsToDouble(bits) >= value || cells.compareAndSet(cell, bits, Double.doubleToRawLongBits(value))) return;
+            }
+        }
+
+        private double estimate(String key) {
+            double estimate = Double.MAX_VALUE;
+            for (int row = 0; row < depth; row++) estimate = Math.min(estimate, Double.longBitsToDouble(cells.get(cell(row, key))));
+            return estimate;
+        }
+
+        private CountMinSketch scaled(double factor) {
+            CountMinSketch scaled = new CountMinSketch(depth, width);
+            for (int cell = 0; cell < cells.length(); cell++) {
+                scaled.cells.set(cell, Double.doubleToRawLongBits(Double.longBitsToDouble(cells.get(cell)) * factor));
+            }
+            return scaled;
+        }
+
+        private double[] toArray() {
+            double[] values = new double[cells.length()];
+            for (int cell = 0; cell < values.length; cell++) values[cell] = Double.longBitsToDouble(cells.get(cell));
+            return values;
+        }
+
+        private int cell(int row, String key) {
+            long hash = SEEDS[row];
+            for (int index = 0; index < key.length(); index++) hash = (hash ^ key.charAt(index)) * 0x100000001B3L;
+            hash ^= hash >>> 33;
+            hash *= 0xFF51AFD7ED558CCDL;
+            hash ^= hash >>> 33;
+            hash *= 0xC4CEB9FE1A85EC53L;
+            hash ^= hash >>> 33;
+            return row * width + (int) (hash & (width - 1));
+        }
+    }
+
+    private static class TopK {
+        private record Ranked(double score, String postId) implements Comparable<Ranked> {
+            @Override
+            public int compareTo(Ranked other) {
+                int byScore = Double.compare(score, other.score);
+                return byScore != 0 ? byScore : postId.compareTo(other.postId);
+            }
+        }
+
+        private final int capacity;
+        private final ConcurrentHashMap<String, Double> scores = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<Ranked, Boolean> lowestFirst = new ConcurrentSkipListMap<>();
+
+        private TopK(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void offer(String postId, double score) {
+            if (scores.size() >= capacity && !scores.containsKey(postId)) {
+                Map.Entry<Ranked, Boolean> lowest = lowestFirst.firstEntry();
+                if (lowest != null && lowest.getKey().score() >= score) return;
+            }
+            scores.compute(postId, (id, previous) -> {
+                if (previous != null) lowestFirst.remove(new Ranked(previous, id));
+                lowestFirst.put(new Ranked(score, id), Boolean.TRUE);
+                return score;
+            });
+            while (scores.size() > capacity) {
+                Map.Entry<Ranked, Boolean> lowest = lowestFirst.pollFirstEntry();
+                if (lowest == null) break;
+                scores.remove(lowest.getKey().postId(), lowest.getKey().score());
+            }
+        }
+
+        private void remove(String postId) {
+            scores.computeIfPresent(postId, (id, score) -> {
+                lowestFirst.remove(new Ranked(score, id));
+                return null;
+            });
+        }
+
+        private TopK scaled(double factor) {
+            TopK scaled = new TopK(capacity);
+            scores.forEach((postId, score) -> scaled.offer(postId, score * factor));
+            return scaled;
+        }
+
+        private List<TrendingScore> snapshot() {
+            List<TrendingScore> snapshot = new ArrayList<>(scores.size());
+            scores.forEach((postId, score) -> snapshot.add(new TrendingScore(postId, score)));
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.truBlog.services;
+
+import org.truBlog.dataTransferObjects.responses.UniqueViewersResponse;
+
+public interface UniqueViewerService {
+    void recordView(String postId, String viewer);
+
+    UniqueViewersResponse estimateUniqueViewers(String postId, int days);
+
+    void flush();
+}
@@ -0,0 +1,153 @@
+package org.truBlog.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.truBlog.data.models.UniqueViewers;
+import org.truBlog.data.repositories.UniqueViewersRepository;
+import org.truBlog.dataTransferObjects.responses.DailyUniqueViewersResponse;
+import org.truBlog.dataTransferObjects.responses.UniqueViewersResponse;
+import org.truBlog.utilities.HyperLogLog;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class UniqueViewerServiceImplementation implements UniqueViewerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UniqueViewerServiceImplementation.class);
+
+    private static final int MAX_DAYS = 90;
+    private static final int MAX_PERSIST_ATTEMPTS = 10;
+
+    @Autowired
+    private UniqueViewersRepository uniqueViewersRepository;
+
+    @Value("${trublog.unique-viewers.precision:12}")
+    private int precision;
+
+    @Value("${trublog.node-id:}")
+    private String node;
+
+    private final ConcurrentHashMap<DayKey, HyperLogLog> pendingSketches = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @PostConstruct
+    private void resolveNode() {
+        if (!node.isBlank()) return;
+        node = UUID.randomUUID().toString();
+        logger.warn("trublog.node-id is not set; writing unique-viewer sketches as node {} until this process exits", node);
+    }
+
+    @Override
+    public void recordView(String postId, String viewer) {
+        if (viewer == null) return;
+        pendingSketches.compute(new DayKey(postId, today()), (key, sketch) -> {
+            if (sketch == null) sketch = new HyperLogLog(precision);
+            sketch.add(viewer);
+            return sketch;
+        });
+    }
+
+    @Override
+    public UniqueViewersResponse estimateUniqueViewers(String postId, int days) {
+        int window = Math.min(Math.max(days, 1), MAX_DAYS);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Map<String, HyperLogLog> dailySketches = new LinkedHashMap<>();
+        for (int offset = window - 1; offset >= 0; offset--) dailySketches.put(today.minusDays(offset).toString(), new HyperLogLog(precision));
+
+        for (UniqueViewers uniqueViewers : uniqueViewersRepository.findByPostIdAndDayIn(postId, dailySketches.keySet())) {
+            dailySketches.merge(uniqueViewers.getDay(), HyperLogLog.fromRegisters(uniqueViewers.getRegisters()), HyperLogLog::union);
+        }
+        dailySketches.replaceAll((day, sketch) -> {
+            HyperLogLog pendingSketch = copyPendingSketch(new DayKey(postId, day));
+            return pendingSketch == null ? sketch : HyperLogLog.union(sketch, pendingSketch);
+        });
+
+        HyperLogLog total = new HyperLogLog(precision);
+        List<DailyUniqueViewersResponse> dailyResponses = new ArrayList<>(window);
+        for (Map.Entry<String, HyperLogLog> dailySketch : dailySketches.entrySet()) {
+            total = HyperLogLog.union(total, dailySketch.getValue());
+            dailyResponses.add(new DailyUniqueViewersResponse(dailySketch.getKey(), dailySketch.getValue().estimate()));
+        }
+        return new UniqueViewersResponse(postId, total.estimate(), total.standardError(), dailyResponses);
+    }
+
+    private HyperLogLog copyPendingSketch(DayKey dayKey) {
+        HyperLogLog[] copy = new HyperLogLog[1];
+        pendingSketches.computeIfPresent(dayKey, (key, sketch) -> {
+            copy[0] = HyperLogLog.fromRegisters(sketch.toRegisters());
+            return sketch;
+        });
+        return copy[0];
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${trublog.unique-viewers.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushSketches();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushSketches() {
+        Map<DayKey, HyperLogLog> drained = new HashMap<>();
+        for (DayKey dayKey : pendingSketches.keySet()) {
+            HyperLogLog sketch = pendingSketches.remove(dayKey);
+            if (sketch != null) drained.put(dayKey, sketch);
+        }
+        List<DayKey> flushed = new ArrayList<>(drained.size());
+        try {
+            for (Map.Entry<DayKey, HyperLogLog> pendingSketch : drained.entrySet()) {
+                persist(pendingSketch.getKey(), pendingSketch.getValue());
+                flushed.add(pendingSketch.getKey());
+            }
+        } catch (RuntimeException exception) {
+            flushed.forEach(drained::remove);
+            drained.forEach((dayKey, sketch) -> pendingSketches.merge(dayKey, sketch, HyperLogLog::union));
+            throw exception;
+        }
+    }
+
+    private void persist(DayKey dayKey, HyperLogLog sketch) {
+        String id = String.join(":", dayKey.postId(), dayKey.day(), node);
+        for (int attempt = 1; attempt <= MAX_PERSIST_ATTEMPTS; attempt++) {
+            UniqueViewers uniqueViewers = uniqueViewersRepository.findById(id).orElseGet(() -> {
+                UniqueViewers newUniqueViewers = new UniqueViewers();
+                newUniqueViewers.setId(id);
+                newUniqueViewers.setPostId(dayKey.postId());
+                newUniqueViewers.setDay(dayKey.day());
+                newUniqueViewers.setNode(node);
+                return newUniqueViewers;
+            });
+            HyperLogLog merged = uniqueViewers.getRegisters() == null ? sketch : HyperLogLog.union(HyperLogLog.fromRegisters(uniqueViewers.getRegisters()), sketch);
+            uniqueViewers.setRegisters(merged.toRegisters());
+            if (uniqueViewersRepository.replaceRegisters(uniqueViewers, uniqueViewers.getVersion())) return;
+        }
+        throw new IllegalStateException(String.format("Unique viewers %s kept changing while being persisted", id));
+    }
+
+    private static String today() {
+        return LocalDate.now(ZoneOffset.UTC).toString();
+    }
+
+    private record DayKey(String postId, String day) {
+    }
+}
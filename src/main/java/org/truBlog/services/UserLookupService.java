@@ -0,0 +1,9 @@
+package org.truBlog.services;
+
+import org.truBlog.data.models.UserSummary;
+
+public interface UserLookupService {
+    UserSummary findUserSummary(String username);
+
+    void invalidate(String username);
+}
@@ -0,0 +1,70 @@
+package org.truBlog.services;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.truBlog.data.models.UserSummary;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.exceptions.UserNotFoundException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+public class UserLookupServiceImplementation implements UserLookupService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${trublog.users.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${trublog.users.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final ExecutorService loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private AsyncCache<String, UserSummary> userSummaries;
+
+    @PostConstruct
+    private void createCache() {
+        userSummaries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .executor(loadExecutor)
+                .buildAsync();
+    }
+
+    @PreDestroy
+    private void stop() {
+        loadExecutor.shutdownNow();
+    }
+
+    @Override
+    public UserSummary findUserSummary(String username) {
+        if (username == null) throw new UserNotFoundException(String.format("%s does not exist", username));
+        UserSummary userSummary = join(userSummaries.get(username, (key, executor) -> CompletableFuture.supplyAsync(() -> userRepository.findSummaryByUsername(key).orElse(null), executor)));
+        if (userSummary == null) throw new UserNotFoundException(String.format("%s does not exist", username));
+        return userSummary;
+    }
+
+    @Override
+    public void invalidate(String username) {
+        userSummaries.synchronous().invalidate(username);
+    }
+
+    private static <T> T join(CompletableFuture<T> load) {
+        try {
+            return load.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw exception;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package org.truBlog.services;
 import org.truBlog.dataTransferObjects.requests.*;
 import org.truBlog.dataTransferObjects.responses.*;
 
+import java.util.stream.Stream;
+
 public interface UserService {
     RegisterResponse signUp(RegisterRequest registerRequest);
     LoginResponse login(LoginRequest loginRequest);
@@ -11,6 +13,15 @@ public interface UserService {
     EditPostResponse editPost(EditPostRequest editPostRequest);
     DeletePostResponse deletePost(DeletePostRequest deletePostRequest);
     ViewPostResponse viewPost(ViewPostRequest viewPostRequest);
+    ReadPostResponse readPost(ReadPostRequest readPostRequest);
+    PostRevisionResponse readPostRevision(ReadPostRevisionRequest readPostRevisionRequest);
+    FeedResponse readFeed(ReadFeedRequest readFeedRequest);
+    TrendingResponse readTrending(ReadTrendingRequest readTrendingRequest);
+    UniqueViewersResponse readUniqueViewers(ReadUniqueViewersRequest readUniqueViewersRequest);
+    SearchPostsResponse searchPosts(SearchPostsRequest searchPostsRequest);
+    String readPostTag(ReadPostRequest readPostRequest);
+    Stream<PostSummaryResponse> streamPosts(StreamPostsRequest streamPostsRequest);
+    Stream<CommentInPostResponse> streamComments(StreamCommentsRequest streamCommentsRequest);
     CommentInPostResponse commentInPost(CommentInPostRequest commentInPostRequest);
 
     DeleteCommentInPostResponse deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest);
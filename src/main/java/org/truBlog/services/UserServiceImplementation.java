@@ -1,19 +1,25 @@
 package org.truBlog.services;
 
-import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.truBlog.bootstrap.ApplicationBootstrap;
+import org.truBlog.data.WriteTransactions;
 import org.truBlog.data.models.Post;
+import org.truBlog.data.models.Session;
 import org.truBlog.data.models.User;
+import org.truBlog.data.models.UserSummary;
+import org.truBlog.data.repositories.PostRepository;
 import org.truBlog.data.repositories.UserRepository;
 import org.truBlog.dataTransferObjects.requests.*;
 import org.truBlog.dataTransferObjects.responses.*;
 import org.truBlog.exceptions.PostNotFoundException;
-import org.truBlog.exceptions.ProfileLockStateException;
 import org.truBlog.exceptions.InvalidPasswordException;
-import org.truBlog.exceptions.UserNotFoundException;
+
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static org.truBlog.utilities.Mappers.*;
 
@@ -21,130 +27,249 @@ import static org.truBlog.utilities.Mappers.*;
 @Service
 public class UserServiceImplementation implements UserService{
 
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int DEFAULT_TRENDING_SIZE = 10;
+    private static final int DEFAULT_UNIQUE_VIEWER_DAYS = 7;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PostRepository postRepository;
+
     @Autowired
     private PostService postService;
+
+    @Autowired
+    private UserLookupService userLookupService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private PasswordService passwordService;
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Autowired
+    private WriteTransactions writeTransactions;
+
+    @Autowired
+    private ApplicationBootstrap applicationBootstrap;
+
+    @Autowired
+    private TimelineService timelineService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private UniqueViewerService uniqueViewerService;
+
     @Override
     public RegisterResponse signUp(RegisterRequest registerRequest) {
         validateInputs(registerRequest);
-        User newUser = registerRequestMap(registerRequest);
-        userRepository.save(newUser);
+        rateLimitService.acquire(RateLimit.ADDRESS_WRITES, registerRequest.getClientAddress());
+        if (!usernameKeysBackfilled() && userRepository.existsUnkeyed(registerRequest.getUsername())) throw new IllegalArgumentException("Username Exists. Please enter a different username");
+        User newUser = registerRequestMap(registerRequest, passwordService.hash(registerRequest.getPassword()));
+        try {
+            userRepository.insert(newUser);
+        } catch (DuplicateKeyException exception) {
+            throw new IllegalArgumentException("Username Exists. Please enter a different username");
+        }
+        userLookupService.invalidate(newUser.getUsername());
         return registerResponseMap(newUser);
     }
 
-    private void validateInputs(RegisterRequest registerRequest) {
+    private boolean usernameKeysBackfilled() {
+        CompletableFuture<Void> completion = applicationBootstrap.getCompletion();
+        return completion.isDone() && !completion.isCompletedExceptionally();
+    }
+
+    static void validateInputs(RegisterRequest registerRequest) {
         if (registerRequest.getFirstName().isEmpty()) throw new IllegalArgumentException("First name field cannot be empty. Please Enter a valid first name.");
         if (registerRequest.getLastName().isEmpty()) throw new IllegalArgumentException("Last name field cannot be empty. Please Enter a valid last name.");
         if (registerRequest.getUsername().isEmpty()) throw new IllegalArgumentException("Username field cannot be empty. Please enter a valid username");
         if (registerRequest.getUsername().contains(" ")) throw new IllegalArgumentException("Username cannot contain space character. Please enter a valid username");
-        if (doesUsernameExist(registerRequest.getUsername().toLowerCase())) throw new IllegalArgumentException("Username Exists. Please enter a different username");
         if (registerRequest.getUsername().equalsIgnoreCase("anonymous")) throw new IllegalArgumentException("Username cannot be anonymous. Please enter a different username");
-    }
-
-
-    private boolean doesUsernameExist(String username) {
-        Optional<User> user = userRepository.findByUsername(username);
-        return user.isPresent();
+        if (registerRequest.getPassword() == null || registerRequest.getPassword().isEmpty()) throw new IllegalArgumentException("Password field cannot be empty. Please enter a valid password");
     }
 
     @Override
     public LoginResponse login(LoginRequest loginRequest) {
-        User user = findUserByUsername(loginRequest.getUsername());
-        if (!user.getPassword().equals(loginRequest.getPassword())) throw new InvalidPasswordException("Invalid Login Details");
-        user.setLocked(false);
-        userRepository.save(user);
-        return loginResponseMap(user);
+        rateLimitService.acquire(RateLimit.ADDRESS_WRITES, loginRequest.getClientAddress());
+        UserSummary userSummary = userLookupService.findUserSummary(loginRequest.getUsername());
+        if (!passwordService.verify(loginRequest.getPassword(), userSummary.password())) throw new InvalidPasswordException("Invalid Login Details");
+        if (passwordService.needsRehash(userSummary.password())) {
+            userRepository.updatePassword(userSummary.id(), passwordService.hash(loginRequest.getPassword()));
+            userLookupService.invalidate(userSummary.username());
+        }
+        String token = sessionService.issue(userSummary.id(), userSummary.username());
+        return loginResponseMap(userReferenceMap(userSummary), token);
     }
 
     @Override
     public LogoutResponse logout(LogoutRequest logoutRequest) {
-        User user = findUserByUsername(logoutRequest.getUsername());
-        user.setLocked(true);
-        userRepository.save(user);
-        return logoutResponseMap(user);
-    }
-
-
-    private User findUserByUsername(String username) {
-        Optional<User> user = userRepository.findByUsername(username);
-        if (user.isEmpty()) throw new UserNotFoundException(String.format("%s does not exist", username));
-        return user.get();
+        Session session = sessionService.authenticate(logoutRequest.getToken(), logoutRequest.getUsername(), "Please login to logout");
+        throttleWrite(session.username(), null);
+        sessionService.revoke(session);
+        return logoutResponseMap(sessionUserMap(session));
     }
 
 
     @Override
     public CreatePostResponse createPost(CreatePostRequest createPostRequest) {
-        User user = findUserByUsername(createPostRequest.getUsername());
-        if (user.isLocked()) throw new ProfileLockStateException("Please login to create a post");
-        Post newPost = postService.createPost(createPostRequest);
-        user.getPosts().add(newPost);
-        userRepository.save(user);
+        Session session = sessionService.authenticate(createPostRequest.getToken(), createPostRequest.getUsername(), "Please login to create a post");
+        throttleWrite(session.username(), null);
+        Post newPost = writeTransactions.execute(() -> {
+            Post post = postService.createPost(createPostRequest, sessionUserMap(session));
+            userRepository.pushPost(session.userId(), post.getId());
+            return post;
+        });
+        timelineService.publish(newPost);
+        searchService.markDirty(newPost.getId());
         return createPostResponseMap(newPost);
     }
 
 
     @Override
     public EditPostResponse editPost(EditPostRequest editPostRequest) {
-        User user = findUserByUsername(editPostRequest.getUsername());
-        if (user.isLocked()) throw new ProfileLockStateException("Please login to edit post");
-        Post post = postService.editPost(editPostRequest, user);
+        Session session = sessionService.authenticate(editPostRequest.getToken(), editPostRequest.getUsername(), "Please login to edit post");
+        throttleWrite(session.username(), editPostRequest.getPostId());
+        validatePostOwnership(editPostRequest.getPostId(), session.userId());
+        Post post = postService.editPost(editPostRequest, sessionUserMap(session));
+        if (editPostRequest.getEditedTitle() != null) timelineService.retitle(post.getId(), post.getTitle());
+        searchService.markDirty(post.getId());
         return editPostResponseMap(post);
     }
 
     @Override
     public DeletePostResponse deletePost(DeletePostRequest deletePostRequest) {
-        User user = findUserByUsername((deletePostRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockStateException("Please login to delete post");
-        Post post = findPost(deletePostRequest.getPostId(), user);
-        DeletePostResponse deletePostResponse = postService.deletePost(deletePostRequest, user);
-        user.getPosts().remove(post);
-        userRepository.save(user);
+        Session session = sessionService.authenticate(deletePostRequest.getToken(), deletePostRequest.getUsername(), "Please login to delete post");
+        throttleWrite(session.username(), deletePostRequest.getPostId());
+        validatePostOwnership(deletePostRequest.getPostId(), session.userId());
+        DeletePostResponse deletePostResponse = writeTransactions.execute(() -> {
+            DeletePostResponse deletedPost = postService.deletePost(deletePostRequest, sessionUserMap(session));
+            userRepository.pullPost(session.userId(), deletePostRequest.getPostId());
+            return deletedPost;
+        });
+        timelineService.tombstone(deletePostRequest.getPostId());
+        trendingService.forget(deletePostRequest.getPostId());
+        searchService.markDirty(deletePostRequest.getPostId());
         return deletePostResponse;
     }
 
-    private Post findPost(String postId, User user) {
-        for (Post post : user.getPosts()) {
-            if (post.getId().equals(postId)) return post;
+    private void throttleWrite(String username, String postId) {
+        rateLimitService.acquire(RateLimit.USER_WRITES, username);
+        rateLimitService.acquire(RateLimit.POST_WRITES, postId);
+    }
+
+    private void throttleRead(String username, String postId) {
+        rateLimitService.acquire(RateLimit.USER_READS, username);
+        rateLimitService.acquire(RateLimit.POST_READS, postId);
+    }
+
+    private void throttleCallerRead(String token, String clientAddress, String postId) {
+        Optional<Session> session = sessionService.findSession(token);
+        if (session.isPresent()) throttleRead(session.get().username(), postId);
+        else {
+            rateLimitService.acquire(RateLimit.ADDRESS_READS, clientAddress);
+            throttleRead(null, postId);
         }
-        throw new PostNotFoundException(String.format("Post %s does not exist in your collection. Please Create a Post", postId));
+    }
+
+    private void validatePostOwnership(String postId, String userId) {
+        if (postRepository.existsByIdAndAuthorId(postId, userId)) return;
+        if (!userRepository.ownsPost(userId, postId)) throw new PostNotFoundException(String.format("Post %s does not exist in your collection. Please Create a Post", postId));
     }
 
     @Override
     public ViewPostResponse viewPost(ViewPostRequest viewPostRequest) {
-//        createAnonymousUser();
-//        User anonymous = findUserByUsername("anonymous");
-//        if (viewPostRequest.getUsername() == null) return postService.viewPost(viewPostRequest, anonymous);
+        throttleCallerRead(viewPostRequest.getToken(), viewPostRequest.getClientAddress(), viewPostRequest.getId());
+        if (viewPostRequest.getUsername() == null) return postService.viewPost(viewPostRequest, createAnonymousUserMap());
+        UserSummary userSummary = userLookupService.findUserSummary(viewPostRequest.getUsername());
+        return postService.viewPost(viewPostRequest, userReferenceMap(userSummary));
+    }
+
+    @Override
+    public ReadPostResponse readPost(ReadPostRequest readPostRequest) {
+        return postService.readPost(readPostRequest);
+    }
+
+    @Override
+    public PostRevisionResponse readPostRevision(ReadPostRevisionRequest readPostRevisionRequest) {
+        throttleCallerRead(readPostRevisionRequest.getToken(), readPostRevisionRequest.getClientAddress(), readPostRevisionRequest.getPostId());
+        return postService.readPostRevision(readPostRevisionRequest);
+    }
+
+    @Override
+    public FeedResponse readFeed(ReadFeedRequest readFeedRequest) {
+        throttleCallerRead(readFeedRequest.getToken(), readFeedRequest.getClientAddress(), null);
+        int size = readFeedRequest.getSize() <= 0 ? DEFAULT_FEED_SIZE : readFeedRequest.getSize();
+        return feedResponseMap(timelineService.readHomeFeed(size));
+    }
+
+    @Override
+    public TrendingResponse readTrending(ReadTrendingRequest readTrendingRequest) {
+        throttleCallerRead(readTrendingRequest.getToken(), readTrendingRequest.getClientAddress(), null);
+        int size = readTrendingRequest.getSize() <= 0 ? DEFAULT_TRENDING_SIZE : readTrendingRequest.getSize();
+        return trendingResponseMap(trendingService.trending(size));
+    }
+
+    @Override
+    public UniqueViewersResponse readUniqueViewers(ReadUniqueViewersRequest readUniqueViewersRequest) {
+        String postId = readUniqueViewersRequest.getPostId();
+        throttleCallerRead(readUniqueViewersRequest.getToken(), readUniqueViewersRequest.getClientAddress(), postId);
+        if (!postRepository.existsById(postId)) throw new PostNotFoundException(String.format("Post %s does not Exist", postId));
+        int days = readUniqueViewersRequest.getDays() <= 0 ? DEFAULT_UNIQUE_VIEWER_DAYS : readUniqueViewersRequest.getDays();
+        return uniqueViewerService.estimateUniqueViewers(postId, days);
+    }
 
-        Optional<User> user = userRepository.findByUsername(viewPostRequest.getUsername());
-        //if (user.get().isLocked()) return postService.viewPost(viewPostRequest, anonymous);
-        return postService.viewPost(viewPostRequest, user.get());
+    @Override
+    public SearchPostsResponse searchPosts(SearchPostsRequest searchPostsRequest) {
+        throttleCallerRead(searchPostsRequest.getToken(), searchPostsRequest.getClientAddress(), null);
+        return searchService.search(searchPostsRequest);
+    }
+
+    @Override
+    public String readPostTag(ReadPostRequest readPostRequest) {
+        throttleCallerRead(readPostRequest.getToken(), readPostRequest.getClientAddress(), readPostRequest.getPostId());
+        return postService.readPostTag(readPostRequest);
     }
 
-    @PostConstruct
-    private void createAnonymousUser() {
-        User anonymous = new User();
-        anonymous.setUsername("anonymous");
-        anonymous.setLocked(true);
-        userRepository.save(anonymous);
-        //System.out.println(userRepository.findByUsername("anonymous"));
+    @Override
+    public Stream<PostSummaryResponse> streamPosts(StreamPostsRequest streamPostsRequest) {
+        throttleCallerRead(streamPostsRequest.getToken(), streamPostsRequest.getClientAddress(), null);
+        UserSummary userSummary = userLookupService.findUserSummary(streamPostsRequest.getUsername());
+        return postService.streamPostsByAuthor(userSummary.id());
+    }
+
+    @Override
+    public Stream<CommentInPostResponse> streamComments(StreamCommentsRequest streamCommentsRequest) {
+        throttleCallerRead(streamCommentsRequest.getToken(), streamCommentsRequest.getClientAddress(), streamCommentsRequest.getPostId());
+        return postService.streamComments(streamCommentsRequest.getPostId());
     }
 
     @Override
     public CommentInPostResponse commentInPost(CommentInPostRequest commentInPostRequest){
-        User user = findUserByUsername((commentInPostRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockStateException("Please login to comment in the post");
-        return postService.commentInPost(commentInPostRequest, user);
+        Session session = sessionService.authenticate(commentInPostRequest.getToken(), commentInPostRequest.getUsername(), "Please login to comment in the post");
+        throttleWrite(session.username(), commentInPostRequest.getPostId());
+        CommentInPostResponse commentInPostResponse = postService.commentInPost(commentInPostRequest, sessionUserMap(session));
+        trendingService.recordComment(commentInPostRequest.getPostId());
+        searchService.markDirty(commentInPostRequest.getPostId());
+        return commentInPostResponse;
     }
 
     @Override
     public DeleteCommentInPostResponse deleteCommentInPost(DeleteCommentInPostRequest deleteCommentInPostRequest) {
-        User user = findUserByUsername((deleteCommentInPostRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockStateException("Please login to delete comment");
-        //Post post = findPost(deleteCommentInPostRequest.getPostId(), user);
-        DeleteCommentInPostResponse deleteCommentInPostResponse = postService.deleteCommentInPost(deleteCommentInPostRequest, user);
-        userRepository.save(user);
+        Session session = sessionService.authenticate(deleteCommentInPostRequest.getToken(), deleteCommentInPostRequest.getUsername(), "Please login to delete comment");
+        throttleWrite(session.username(), deleteCommentInPostRequest.getPostId());
+        DeleteCommentInPostResponse deleteCommentInPostResponse = postService.deleteCommentInPost(deleteCommentInPostRequest, sessionUserMap(session));
+        searchService.markDirty(deleteCommentInPostRequest.getPostId());
         return deleteCommentInPostResponse;
     }
 
@@ -0,0 +1,11 @@
+package org.truBlog.services;
+
+public interface ViewCountService {
+    void recordView(String postId, String viewer);
+
+    long countViews(String postId);
+
+    long countPendingViews(String postId);
+
+    void flush();
+}
@@ -0,0 +1,132 @@
+package org.truBlog.services;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.truBlog.data.models.PostViewCount;
+import org.truBlog.data.repositories.PostViewCountRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class ViewCountServiceImplementation implements ViewCountService {
+
+    @Autowired
+    private PostViewCountRepository postViewCountRepository;
+
+    @Value("${trublog.views.recent-viewers-size:20}")
+    private int recentViewersSize;
+
+    private final AtomicReference<Epoch> currentEpoch = new AtomicReference<>(new Epoch());
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Override
+    public void recordView(String postId, String viewer) {
+        while (true) {
+            Epoch epoch = currentEpoch.get();
+            epoch.writers.increment();
+            try {
+                if (epoch != currentEpoch.get()) continue;
+                epoch.pendingViews.computeIfAbsent(postId, key -> new PendingViews(recentViewersSize)).record(viewer);
+                return;
+            } finally {
+                epoch.writers.decrement();
+            }
+        }
+    }
+
+    @Override
+    public long countViews(String postId) {
+        long persistedViews = postViewCountRepository.findById(postId).map(PostViewCount::getViewCount).orElse(0L);
+        return persistedViews + countPendingViews(postId);
+    }
+
+    @Override
+    public long countPendingViews(String postId) {
+        PendingViews pendingViews = currentEpoch.get().pendingViews.get(postId);
+        return pendingViews == null ? 0 : pendingViews.views.sum();
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${trublog.views.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushEpoch();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushEpoch() {
+        Epoch epoch = currentEpoch.getAndSet(new Epoch());
+        while (epoch.writers.sum() != 0) Thread.onSpinWait();
+        if (epoch.pendingViews.isEmpty()) return;
+
+        Map<String, Long> viewCounts = new HashMap<>();
+        Map<String, List<String>> recentViewers = new HashMap<>();
+        epoch.pendingViews.forEach((postId, pendingViews) -> {
+            viewCounts.put(postId, pendingViews.views.sum());
+            recentViewers.put(postId, pendingViews.recentViewers());
+        });
+        try {
+            postViewCountRepository.incrementViewCounts(viewCounts, recentViewers, recentViewersSize);
+        } catch (RuntimeException exception) {
+            Epoch retryEpoch = currentEpoch.get();
+            epoch.pendingViews.forEach((postId, pendingViews) -> retryEpoch.pendingViews.computeIfAbsent(postId, key -> new PendingViews(recentViewersSize)).merge(pendingViews));
+            throw exception;
+        }
+    }
+
+    private static class Epoch {
+        private final ConcurrentHashMap<String, PendingViews> pendingViews = new ConcurrentHashMap<>();
+        private final LongAdder writers = new LongAdder();
+    }
+
+    private static class PendingViews {
+        private final LongAdder views = new LongAdder();
+        private final AtomicReferenceArray<String> viewers;
+        private final AtomicLong nextViewer = new AtomicLong();
+
+        private PendingViews(int recentViewersSize) {
+            viewers = new AtomicReferenceArray<>(recentViewersSize);
+        }
+
+        private void record(String viewer) {
+            views.increment();
+            sampleViewer(viewer);
+        }
+
+        private void merge(PendingViews pendingViews) {
+            views.add(pendingViews.views.sum());
+            pendingViews.recentViewers().forEach(this::sampleViewer);
+        }
+
+        private void sampleViewer(String viewer) {
+            if (viewers.length() == 0) return;
+            viewers.set((int) (nextViewer.getAndIncrement() % viewers.length()), viewer);
+        }
+
+        private List<String> recentViewers() {
+            long total = nextViewer.get();
+            int size = (int) Math.min(total, viewers.length());
+            List<String> recentViewers = new ArrayList<>(size);
+            for (long count = total - size; count < total; count++) {
+                recentViewers.add(viewers.get((int) (count % viewers.length())));
+            }
+            return recentViewers;
+        }
+    }
+}
@@ -12,5 +12,5 @@ import java.util.Optional;
 public interface ViewService {
     View viewPost(ViewPostRequest viewPostRequest, User user);
 
-    View commentOnPost(CommentInPostRequest commentInPostRequest, User user, Post post);
+    View commentOnPost(CommentInPostRequest commentInPostRequest, User user);
 }
@@ -6,7 +6,6 @@ import org.truBlog.data.models.Comment;
 import org.truBlog.data.models.Post;
 import org.truBlog.data.models.User;
 import org.truBlog.data.models.View;
-import org.truBlog.data.repositories.ViewRepository;
 import org.truBlog.dataTransferObjects.requests.CommentInPostRequest;
 import org.truBlog.dataTransferObjects.requests.ViewPostRequest;
 import org.truBlog.utilities.Mappers;
@@ -18,22 +17,38 @@ import java.util.Optional;
 public class ViewServiceImplementation implements ViewService{
 
     @Autowired
-    private ViewRepository viewRepository;
+    private ViewWriteBehindService viewWriteBehindService;
 
     @Autowired
     private CommentService commentService;
 
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private UniqueViewerService uniqueViewerService;
+
     @Override
     public View viewPost(ViewPostRequest viewPostRequest, User user) {
-        View newView = Mappers.createViewPost(user);
-        viewRepository.save(newView);
+        View newView = Mappers.createViewPost(user, viewPostRequest.getId());
+        viewWriteBehindService.enqueue(newView);
+        viewCountService.recordView(newView.getPostId(), newView.getViewer());
+        trendingService.recordView(newView.getPostId());
+        uniqueViewerService.recordView(newView.getPostId(), newView.getViewer());
         return newView;
     }
 
     @Override
-    public View commentOnPost(CommentInPostRequest commentInPostRequest, User user, Post post) {
-        View newView = Mappers.createViewPost(user);
-        return viewRepository.save(newView);
+    public View commentOnPost(CommentInPostRequest commentInPostRequest, User user) {
+        View newView = Mappers.createViewPost(user, commentInPostRequest.getPostId());
+        viewWriteBehindService.enqueue(newView);
+        viewCountService.recordView(newView.getPostId(), newView.getViewer());
+        trendingService.recordView(newView.getPostId());
+        uniqueViewerService.recordView(newView.getPostId(), newView.getViewer());
+        return newView;
     }
 
 }
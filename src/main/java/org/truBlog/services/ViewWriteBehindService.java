@@ -0,0 +1,25 @@
+package org.truBlog.services;
+
+import org.truBlog.data.models.View;
+
+public interface ViewWriteBehindService {
+    void enqueue(View view);
+
+    boolean flush();
+
+    int getQueueDepth();
+
+    long getFlushedBatches();
+
+    long getFlushedViews();
+
+    long getRejectedViews();
+
+    long getFailedBatches();
+
+    long getDroppedViews();
+
+    int getLastBatchSize();
+
+    long getLastFlushLatencyNanos();
+}
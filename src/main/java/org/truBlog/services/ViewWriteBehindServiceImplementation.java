@@ -0,0 +1,246 @@
+package org.truBlog.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.truBlog.data.models.View;
+import org.truBlog.data.repositories.ViewRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class ViewWriteBehindServiceImplementation implements ViewWriteBehindService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewWriteBehindServiceImplementation.class);
+
+    @Autowired
+    private ViewRepository viewRepository;
+
+    @Value("${trublog.views.write-behind.capacity:10000}")
+    private int capacity;
+
+    @Value("${trublog.views.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${trublog.views.write-behind.flush-interval-ms:200}")
+    private long flushIntervalMillis;
+
+    @Value("${trublog.views.write-behind.offer-timeout-ms:50}")
+    private long offerTimeoutMillis;
+
+    @Value("${trublog.views.write-behind.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${trublog.views.write-behind.retry-backoff-ms:100}")
+    private long retryBackoffMillis;
+
+    @Value("${trublog.views.write-behind.drain-timeout-ms:10000}")
+    private long drainTimeoutMillis;
+
+    private BlockingQueue<View> queue;
+    private Thread flusher;
+    private volatile boolean running;
+    private volatile boolean accepting;
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final Condition drained = drainLock.newCondition();
+    private final AtomicInteger unflushedViews = new AtomicInteger();
+    private final AtomicLong flushedBatches = new AtomicLong();
+    private final AtomicLong flushedViews = new AtomicLong();
+    private final AtomicLong rejectedViews = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong droppedViews = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastFlushLatencyNanos;
+
+    @PostConstruct
+    private void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        running = true;
+        accepting = true;
+        flusher = Thread.ofPlatform().name("view-write-behind").daemon().start(this::drainContinuously);
+    }
+
+    @Override
+    public void enqueue(View view) {
+        unflushedViews.incrementAndGet();
+        try {
+            if (accepting && queue.offer(view, offerTimeoutMillis, TimeUnit.MILLISECONDS)) return;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedViews.incrementAndGet();
+        insertBatch(List.of(view));
+    }
+
+    @Override
+    public boolean flush() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMillis);
+        while (true) {
+            List<View> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                insertBatch(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+            if (unflushedViews.get() == 0) return true;
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !awaitDrained(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis)))) {
+                logger.warn("Gave up waiting for {} unflushed views", unflushedViews.get());
+                return false;
+            }
+        }
+    }
+
+    private boolean awaitDrained(long nanos) {
+        drainLock.lock();
+        try {
+            if (unflushedViews.get() > 0) drained.awaitNanos(nanos);
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    private void stop() throws InterruptedException {
+        accepting = false;
+        running = false;
+        flusher.join(drainTimeoutMillis);
+        flush();
+    }
+
+    private void drainContinuously() {
+        while (running) {
+            try {
+                List<View> batch = nextBatch();
+                if (!batch.isEmpty()) insertBatch(batch);
+            } catch (InterruptedException exception) {
+                return;
+            }
+        }
+    }
+
+    private List<View> nextBatch() throws InterruptedException {
+        List<View> batch = new ArrayList<>(batchSize);
+        View first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) return batch;
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) break;
+            View next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) break;
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void insertBatch(List<View> batch) {
+        long start = System.nanoTime();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                if (attempt == 1) viewRepository.insert(batch);
+                else viewRepository.saveAll(batch);
+                flushedBatches.incrementAndGet();
+                flushedViews.addAndGet(batch.size());
+                lastBatchSize = batch.size();
+                lastFlushLatencyNanos = System.nanoTime() - start;
+                complete(batch.size());
+                return;
+            } catch (RuntimeException exception) {
+                failedBatches.incrementAndGet();
+                logger.warn("Failed to write {} views, attempt {} of {}", batch.size(), attempt, maxAttempts, exception);
+            }
+            if (attempt < maxAttempts && !backOff(attempt)) break;
+        }
+        int requeued = accepting ? requeue(batch) : 0;
+        if (requeued < batch.size()) {
+            droppedViews.addAndGet(batch.size() - requeued);
+            logger.error("Dropped {} views after {} failed attempts", batch.size() - requeued, maxAttempts);
+            complete(batch.size() - requeued);
+        }
+    }
+
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private int requeue(List<View> batch) {
+        int requeued = 0;
+        while (requeued < batch.size() && queue.offer(batch.get(requeued))) requeued++;
+        return requeued;
+    }
+
+    private void complete(int views) {
+        if (unflushedViews.addAndGet(-views) > 0) return;
+        drainLock.lock();
+        try {
+            drained.signalAll();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public long getFlushedBatches() {
+        return flushedBatches.get();
+    }
+
+    @Override
+    public long getFlushedViews() {
+        return flushedViews.get();
+    }
+
+    @Override
+    public long getRejectedViews() {
+        return rejectedViews.get();
+    }
+
+    @Override
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+
+    @Override
+    public long getDroppedViews() {
+        return droppedViews.get();
+    }
+
+    @Override
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    @Override
+    public long getLastFlushLatencyNanos() {
+        return lastFlushLatencyNanos;
+    }
+}
@@ -0,0 +1,150 @@
+package org.truBlog.utilities;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+public class BinaryDelta {
+
+    private static final int BLOCK_SIZE = 16;
+    private static final int COPY = 0;
+    private static final int INSERT = 1;
+    private static final int OUTGOING_WEIGHT = outgoingWeight();
+
+    public static byte[] diff(byte[] base, byte[] target) {
+        Map<Integer, Integer> blocks = new HashMap<>();
+        for (int offset = 0; offset + BLOCK_SIZE <= base.length; offset += BLOCK_SIZE) {
+            blocks.putIfAbsent(blockHash(base, offset), offset);
+        }
+        ByteArrayOutputStream delta = new ByteArrayOutputStream();
+        writeVarInt(delta, target.length);
+        int literalStart = 0;
+        int position = 0;
+        int hash = target.length < BLOCK_SIZE ? 0 : blockHash(target, 0);
+        while (position + BLOCK_SIZE <= target.length) {
+            Integer offset = blocks.get(hash);
+            if (offset == null || !matches(base, offset, target, position, BLOCK_SIZE)) {
+                if (position + BLOCK_SIZE < target.length) hash = roll(hash, target[position], target[position + BLOCK_SIZE]);
+                position++;
+                continue;
+            }
+            int start = offset;
+            int targetStart = position;
+            while (start > 0 && targetStart > literalStart && base[start - 1] == target[targetStart - 1]) {
+                start--;
+                targetStart--;
+            }
+            int end = offset + BLOCK_SIZE;
+            int targetEnd = position + BLOCK_SIZE;
+            while (end < base.length && targetEnd < target.length && base[end] == target[targetEnd]) {
+                end++;
+                targetEnd++;
+            }
+            writeInsert(delta, target, literalStart, targetStart);
+            delta.write(COPY);
+            writeVarInt(delta, start);
+            writeVarInt(delta, end - start);
+            position = targetEnd;
+            literalStart = targetEnd;
+            if (position + BLOCK_SIZE <= target.length) hash = blockHash(target, position);
+        }
+        writeInsert(delta, target, literalStart, target.length);
+        return delta.toByteArray();
+    }
+
+    public static byte[] apply(byte[] base, byte[] delta) {
+        int[] position = {0};
+        int targetLength = readVarInt(delta, position);
+        if (outputLength(base, delta, position[0]) != targetLength) throw new IllegalArgumentException("Delta does not match its base");
+        byte[] target = new byte[targetLength];
+        int written = 0;
+        while (position[0] < delta.length) {
+            int operation = delta[position[0]++];
+            if (operation == COPY) {
+                int offset = readVarInt(delta, position);
+                int length = readVarInt(delta, position);
+                System.arraycopy(base, offset, target, written, length);
+                written += length;
+            } else {
+                int length = readVarInt(delta, position);
+                System.arraycopy(delta, position[0], target, written, length);
+                position[0] += length;
+                written += length;
+            }
+        }
+        return target;
+    }
+
+    private static long outputLength(byte[] base, byte[] delta, int start) {
+        int[] position = {start};
+        long length = 0;
+        while (position[0] < delta.length) {
+            int operation = delta[position[0]++];
+            if (operation == COPY) {
+                int offset = readVarInt(delta, position);
+                int copied = readVarInt(delta, position);
+                if (copied > base.length - offset) throw new IllegalArgumentException("Delta copies past the end of its base");
+                length += copied;
+            } else if (operation == INSERT) {
+                int inserted = readVarInt(delta, position);
+                if (inserted > delta.length - position[0]) throw new IllegalArgumentException("Delta inserts past its own end");
+                position[0] += inserted;
+                length += inserted;
+            } else {
+                throw new IllegalArgumentException(String.format("Unknown delta operation %d", operation));
+            }
+        }
+        return length;
+    }
+
+    private static void writeInsert(ByteArrayOutputStream delta, byte[] target, int start, int end) {
+        if (end <= start) return;
+        delta.write(INSERT);
+        writeVarInt(delta, end - start);
+        delta.write(target, start, end - start);
+    }
+
+    private static boolean matches(byte[] base, int baseOffset, byte[] target, int targetOffset, int length) {
+        for (int index = 0; index < length; index++) {
+            if (base[baseOffset + index] != target[targetOffset + index]) return false;
+        }
+        return true;
+    }
+
+    private static int blockHash(byte[] bytes, int offset) {
+        int hash = 0;
+        for (int index = offset; index < offset + BLOCK_SIZE; index++) hash = 31 * hash + bytes[index];
+        return hash;
+    }
+
+    private static int roll(int hash, byte outgoing, byte incoming) {
+        return 31 * (hash - outgoing * OUTGOING_WEIGHT) + incoming;
+    }
+
+    private static int outgoingWeight() {
+        int weight = 1;
+        for (int index = 1; index < BLOCK_SIZE; index++) weight *= 31;
+        return weight;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(byte[] bytes, int[] position) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (position[0] >= bytes.length) throw new IllegalArgumentException("Delta ends inside a length");
+            byte next = bytes[position[0]++];
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) != 0) continue;
+            if (value < 0) throw new IllegalArgumentException("Delta holds a negative length");
+            return value;
+        }
+        throw new IllegalArgumentException("Delta holds a length wider than 32 bits");
+    }
+}
@@ -0,0 +1,110 @@
+package org.truBlog.utilities;
+
+import java.nio.charset.StandardCharsets;
+
+public class HyperLogLog {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(String.format("HyperLogLog precision must be between %d and %d", MIN_PRECISION, MAX_PRECISION));
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public static HyperLogLog fromRegisters(byte[] registers) {
+        int precision = Integer.numberOfTrailingZeros(registers.length);
+        if (registers.length != 1 << precision) throw new IllegalArgumentException("HyperLogLog registers must be a power of two");
+        HyperLogLog hyperLogLog = new HyperLogLog(precision);
+        System.arraycopy(registers, 0, hyperLogLog.registers, 0, registers.length);
+        return hyperLogLog;
+    }
+
+    public void add(String value) {
+        long hash = hash(value);
+        int register = (int) (hash >>> (Long.SIZE - precision));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+        if (registers[register] < rank) registers[register] = rank;
+    }
+
+    public static HyperLogLog union(HyperLogLog left, HyperLogLog right) {
+        HyperLogLog union = left.fold(Math.min(left.precision, right.precision));
+        union.merge(right.fold(union.precision));
+        return union;
+    }
+
+    public HyperLogLog fold(int targetPrecision) {
+        if (targetPrecision > precision) throw new IllegalArgumentException("Cannot fold a HyperLogLog to a higher precision");
+        HyperLogLog folded = new HyperLogLog(targetPrecision);
+        int droppedBits = precision - targetPrecision;
+        for (int register = 0; register < registers.length; register++) {
+            if (registers[register] == 0) continue;
+            int droppedIndex = register & ((1 << droppedBits) - 1);
+            int rank = droppedIndex == 0 ? droppedBits + registers[register] : Integer.numberOfLeadingZeros(droppedIndex) - (Integer.SIZE - droppedBits) + 1;
+            int foldedRegister = register >>> droppedBits;
+            if (folded.registers[foldedRegister] < rank) folded.registers[foldedRegister] = (byte) rank;
+        }
+        return folded;
+    }
+
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) throw new IllegalArgumentException("Cannot merge HyperLogLogs of different precision");
+        for (int register = 0; register < registers.length; register++) {
+            if (registers[register] < other.registers[register]) registers[register] = other.registers[register];
+        }
+    }
+
+    public long estimate() {
+        int count = registers.length;
+        double sum = 0;
+        int emptyRegisters = 0;
+        for (byte rank : registers) {
+            sum += 1.0 / (1L << rank);
+            if (rank == 0) emptyRegisters++;
+        }
+        double estimate = alpha(count) * count * count / sum;
+        if (estimate <= 2.5 * count && emptyRegisters > 0) estimate = count * Math.log((double) count / emptyRegisters);
+        return Math.round(estimate);
+    }
+
+    public double standardError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public byte[] toRegisters() {
+        return registers.clone();
+    }
+
+    private static double alpha(int count) {
+        return switch (count) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / count);
+        };
+    }
+
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte character : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= character;
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,127 +1,180 @@
 package org.truBlog.utilities;
 
+import org.bson.types.ObjectId;
 import org.truBlog.data.models.Comment;
 import org.truBlog.data.models.Post;
+import org.truBlog.data.models.Revision;
+import org.truBlog.data.models.Session;
+import org.truBlog.data.models.StoredContent;
+import org.truBlog.data.models.TimelineEntry;
+import org.truBlog.data.models.TrendingScore;
 import org.truBlog.data.models.User;
+import org.truBlog.data.models.UserSummary;
 import org.truBlog.data.models.View;
 import org.truBlog.dataTransferObjects.requests.*;
 import org.truBlog.dataTransferObjects.responses.*;
-import org.truBlog.exceptions.PostNotFoundException;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 public class Mappers {
 
-    public static User registerRequestMap(RegisterRequest registerRequest) {
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("MMM dd, yyyy hh: mm: ss a");
+
+    public static User registerRequestMap(RegisterRequest registerRequest, String passwordHash) {
         User newUser = new User();
         newUser.setFirstName(registerRequest.getFirstName());
         newUser.setLastName(registerRequest.getLastName());
         newUser.setUsername(registerRequest.getUsername());
-        newUser.setPassword(registerRequest.getPassword());
+        newUser.setUsernameKey(registerRequest.getUsername().toLowerCase(Locale.ROOT));
+        newUser.setPassword(passwordHash);
         return newUser;
     }
+    public static User userReferenceMap(UserSummary userSummary) {
+        User user = new User();
+        user.setId(userSummary.id());
+        user.setUsername(userSummary.username());
+        return user;
+    }
+
+    public static User sessionUserMap(Session session) {
+        User user = new User();
+        user.setId(session.userId());
+        user.setUsername(session.username());
+        return user;
+    }
+
+    public static User createAnonymousUserMap() {
+        User anonymous = new User();
+        anonymous.setUsername("anonymous");
+        anonymous.setUsernameKey("anonymous");
+        return anonymous;
+    }
+
     public static RegisterResponse registerResponseMap(User user) {
-        RegisterResponse registerResponse = new RegisterResponse();
-        registerResponse.setId(user.getId());
-        registerResponse.setUsername(user.getUsername());
-        registerResponse.setDateOfRegistration(user.getDateOfRegistration().format(DateTimeFormatter.ofPattern("MMM dd, yyyy hh: mm: ss a")));
-        return registerResponse;
+        return new RegisterResponse(user.getId(), user.getUsername(), formatTimestamp(user.getDateOfRegistration()));
     }
 
-    public static LoginResponse loginResponseMap(User user) {
-        LoginResponse loginResponse = new LoginResponse();
-        loginResponse.setId(user.getId());
-        loginResponse.setUsername(user.getUsername());
-        return loginResponse;
+    public static LoginResponse loginResponseMap(User user, String token) {
+        return new LoginResponse(user.getId(), user.getUsername(), token);
     }
 
     public static LogoutResponse logoutResponseMap(User user) {
-        LogoutResponse logoutResponse = new LogoutResponse();
-        logoutResponse.setId(user.getId());
-        logoutResponse.setUsername(user.getUsername());
-        return logoutResponse;
+        return new LogoutResponse(user.getId(), user.getUsername());
     }
-    public static Post createPostRequestMap(CreatePostRequest createPostRequest) {
+    public static Post createPostRequestMap(CreatePostRequest createPostRequest, User user, StoredContent storedContent) {
         Post newPost = new Post();
+        newPost.setAuthorId(user.getId());
+        newPost.setAuthorUsername(user.getUsername());
         newPost.setTitle(createPostRequest.getTitle());
-        newPost.setContent(createPostRequest.getContent());
+        newPost.setContent(storedContent.inline());
+        newPost.setContentHash(storedContent.hash());
         return newPost;
     }
     public static CreatePostResponse createPostResponseMap(Post post){
-        CreatePostResponse createPostResponse = new CreatePostResponse();
-        createPostResponse.setId(post.getId());
-        createPostResponse.setTitle(post.getTitle());
-        createPostResponse.setDateCreated(post.getDateCreated().format(DateTimeFormatter.ofPattern("MMM dd, yyyy hh: mm: ss a")));
-        return createPostResponse;
+        return new CreatePostResponse(post.getId(), post.getTitle(), formatTimestamp(post.getDateCreated()));
     }
 
-    public static Post editPostRequestMap(EditPostRequest editPostRequest, User user){
-        Post post = findUserPost(editPostRequest.getPostId(), user);
-        if (editPostRequest.getEditedTitle() != null) post.setTitle(editPostRequest.getEditedTitle());
-        if (editPostRequest.getEditedContent() != null) post.setContent(editPostRequest.getEditedContent());
-        return post;
+    public static Post editPostRequestMap(Post previousPost, EditPostRequest editPostRequest, StoredContent storedContent, LocalDateTime editedAt) {
+        Post editedPost = new Post();
+        editedPost.setId(previousPost.getId());
+        editedPost.setAuthorId(previousPost.getAuthorId());
+        editedPost.setAuthorUsername(previousPost.getAuthorUsername());
+        editedPost.setVersion(previousPost.getVersion() + 1);
+        editedPost.setRevision(previousPost.getRevision() + 1);
+        editedPost.setTitle(editPostRequest.getEditedTitle() == null ? previousPost.getTitle() : editPostRequest.getEditedTitle());
+        editedPost.setContent(storedContent == null ? previousPost.getContent() : storedContent.inline());
+        editedPost.setContentHash(storedContent == null ? previousPost.getContentHash() : storedContent.hash());
+        editedPost.setDateCreated(previousPost.getDateCreated());
+        editedPost.setEditedAt(editedAt);
+        return editedPost;
     }
 
-    private static Post findUserPost(String id, User user) {
-        for (int count = 0; count < user.getPosts().size(); count++){
-            if (user.getPosts().get(count).getId().equals(id)) {
-                return user.getPosts().get(count);
-            }
-        }
-        throw new  PostNotFoundException(String.format("Post %s does not exist in your collection. Please Create a Post", id));
+    public static EditPostResponse editPostResponseMap(Post post){
+        LocalDateTime dateEdited = post.getEditedAt() == null ? post.getDateCreated() : post.getEditedAt();
+        return new EditPostResponse(post.getId(), post.getTitle(), formatTimestamp(dateEdited), post.getRevision());
     }
 
-    public static EditPostResponse editPostResponseMap(Post post){
-        EditPostResponse editPostResponse = new EditPostResponse();
-        editPostResponse.setId(post.getId());
-        editPostResponse.setTitle(post.getTitle());
-        editPostResponse.setDateEdited(post.getDateCreated().format(DateTimeFormatter.ofPattern("MMM dd, yyy hh: mm: ss a")));
-        return editPostResponse;
+    public static PostRevisionResponse postRevisionResponseMap(Revision revision) {
+        return new PostRevisionResponse(revision.postId(), revision.revision(), revision.title(), revision.content(), formatTimestamp(revision.editedAt()));
     }
 
-    public static View createViewPost(User user) {
+    public static View createViewPost(User user, String postId) {
         View view = new View();
+        view.setId(new ObjectId().toHexString());
+        view.setPostId(postId);
         view.setViewer(user.getUsername());
         return view;
     }
 
     public static ViewPostResponse viewPostResponseMap(View view){
-        ViewPostResponse viewPostResponse = new ViewPostResponse();
-        viewPostResponse.setViewId(view.getId());
-        viewPostResponse.setViewer(view.getViewer());
-        viewPostResponse.setTimeOfView(view.getTimeOfView().format(DateTimeFormatter.ofPattern("MMM dd, yyy hh: mm: ss a")));
-        return viewPostResponse;
+        return new ViewPostResponse(view.getId(), formatTimestamp(view.getTimeOfView()), view.getViewer());
     }
 
     public static DeletePostResponse deletePostResponseMap(Post post) {
-        DeletePostResponse deletePostResponse = new DeletePostResponse();
-        deletePostResponse.setId(post.getId());
-        deletePostResponse.setTitle(post.getTitle());
-        return deletePostResponse;
+        return new DeletePostResponse(post.getId(), post.getTitle());
     }
 
     public static Comment commentOnPostRequestMap(CommentInPostRequest commentInPostRequest, User user) {
         Comment comment = new Comment();
+        comment.setPostId(commentInPostRequest.getPostId());
         comment.setComment(commentInPostRequest.getComment());
+        comment.setCommenterId(user.getId());
+        comment.setCommenterUsername(user.getUsername());
         comment.setCommenter(user);
         return comment;
     }
 
     public static CommentInPostResponse commentOnPostResponseMap(Comment comment) {
-        CommentInPostResponse commentInPostResponse = new CommentInPostResponse();
-        commentInPostResponse.setComment(comment.getComment());
-        commentInPostResponse.setCommentId(comment.getId());
-        commentInPostResponse.setCommenterUsername(comment.getCommenter().getUsername());
-        commentInPostResponse.setTimeOfComment(comment.getTimeOfComment().format(DateTimeFormatter.ofPattern("MMM dd, yyy hh: mm: ss a")));
-        return commentInPostResponse;
-    }
-
-    public static DeleteCommentInPostResponse deleteCommentInPostResponseMap(Comment comment, Post post) {
-        DeleteCommentInPostResponse deleteCommentInPostResponse = new DeleteCommentInPostResponse();
-        deleteCommentInPostResponse.setComment(comment.getComment());
-        deleteCommentInPostResponse.setCommentId(comment.getId());
-        deleteCommentInPostResponse.setPostId(post.getId());
-        return deleteCommentInPostResponse;
+        return new CommentInPostResponse(comment.getId(), comment.getComment(), formatTimestamp(comment.getTimeOfComment()), commenterUsername(comment));
+    }
+
+    private static String commenterUsername(Comment comment) {
+        if (comment.getCommenterUsername() != null) return comment.getCommenterUsername();
+        return comment.getCommenter() == null ? null : comment.getCommenter().getUsername();
+    }
+
+    public static ReadPostResponse readPostResponseMap(Post post, String content, long viewCount, List<Comment> comments, String nextCursor) {
+        List<CommentInPostResponse> commentResponses = new ArrayList<>(comments.size());
+        for (Comment comment : comments) commentResponses.add(commentOnPostResponseMap(comment));
+        return new ReadPostResponse(post.getId(), post.getTitle(), content, formatTimestamp(post.getDateCreated()), viewCount, commentResponses, nextCursor);
+    }
+
+    public static TimelineEntry timelineEntryMap(Post post) {
+        TimelineEntry timelineEntry = new TimelineEntry();
+        timelineEntry.setPostId(post.getId());
+        timelineEntry.setTitle(post.getTitle());
+        timelineEntry.setAuthorUsername(post.getAuthorUsername());
+        timelineEntry.setDateCreated(post.getDateCreated());
+        return timelineEntry;
+    }
+
+    public static FeedResponse feedResponseMap(List<TimelineEntry> timelineEntries) {
+        List<FeedEntryResponse> entries = new ArrayList<>(timelineEntries.size());
+        for (TimelineEntry timelineEntry : timelineEntries) {
+            entries.add(new FeedEntryResponse(timelineEntry.getPostId(), timelineEntry.getTitle(), timelineEntry.getAuthorUsername(), formatTimestamp(timelineEntry.getDateCreated())));
+        }
+        return new FeedResponse(entries);
+    }
+
+    public static TrendingResponse trendingResponseMap(List<TrendingScore> trendingScores) {
+        List<TrendingPostResponse> posts = new ArrayList<>(trendingScores.size());
+        for (TrendingScore trendingScore : trendingScores) posts.add(new TrendingPostResponse(trendingScore.postId(), trendingScore.score()));
+        return new TrendingResponse(posts);
+    }
+
+    public static PostSummaryResponse postSummaryResponseMap(Post post) {
+        return new PostSummaryResponse(post.getId(), post.getTitle(), formatTimestamp(post.getDateCreated()));
+    }
+
+    public static DeleteCommentInPostResponse deleteCommentInPostResponseMap(Comment comment) {
+        return new DeleteCommentInPostResponse(comment.getId(), comment.getComment(), comment.getPostId());
+    }
+
+    public static String formatTimestamp(LocalDateTime timestamp) {
+        return TIMESTAMP_FORMATTER.format(timestamp);
     }
 }
@@ -0,0 +1,116 @@
+package org.truBlog.bootstrap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.User;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.TimelineRepository;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.dataTransferObjects.requests.ReadFeedRequest;
+import org.truBlog.dataTransferObjects.requests.RegisterRequest;
+import org.truBlog.services.UserService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class ApplicationBootstrapTest {
+
+    @Autowired
+    private ApplicationBootstrap applicationBootstrap;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TimelineRepository timelineRepository;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        postRepository.deleteAll();
+        timelineRepository.deleteAll();
+    }
+
+    @Test
+    public void repeatedBootstrap_CreatesOneAnonymousUserTest() {
+        applicationBootstrap.run(new DefaultApplicationArguments());
+        applicationBootstrap.run(new DefaultApplicationArguments());
+
+        assertEquals(1, userRepository.count());
+        assertEquals("anonymous", userRepository.findByUsername("anonymous").get().getUsernameKey());
+        assertTrue(applicationBootstrap.getCompletion().isDone());
+    }
+
+    @Test
+    public void bootstrap_RemovesAnonymousUsersLeftByEarlierBootsTest() {
+        for (int count = 0; count < 3; count++) {
+            User legacyAnonymous = new User();
+            legacyAnonymous.setUsername("anonymous");
+            userRepository.save(legacyAnonymous);
+        }
+
+        applicationBootstrap.run(new DefaultApplicationArguments());
+
+        assertEquals(1, userRepository.count());
+        assertEquals("anonymous", userRepository.findByUsername("anonymous").get().getUsernameKey());
+    }
+
+    @Test
+    public void bootstrap_BackfillsUsernameKeysOfLegacyUsersTest() {
+        User legacyUser = legacyUser("John123");
+        User collidingUser = legacyUser("john123");
+
+        applicationBootstrap.run(new DefaultApplicationArguments());
+
+        assertEquals("john123", userRepository.findById(legacyUser.getId()).get().getUsernameKey());
+        assertEquals("john123#" + collidingUser.getId(), userRepository.findById(collidingUser.getId()).get().getUsernameKey());
+        assertThrows(IllegalArgumentException.class, () -> userService.signUp(registerRequest("JOHN123")));
+    }
+
+    @Test
+    public void missingHomeTimeline_IsRebuiltFromPostsTest() {
+        Post legacyPost = new Post();
+        legacyPost.setAuthorUsername("john123");
+        legacyPost.setTitle("the prestige");
+        postRepository.save(legacyPost);
+
+        applicationBootstrap.run(new DefaultApplicationArguments());
+
+        assertTrue(timelineRepository.existsById("home"));
+        assertEquals("the prestige", userService.readFeed(new ReadFeedRequest()).getEntries().getFirst().getTitle());
+    }
+
+    @Test
+    public void unkeyedLegacyUsername_IsMatchedIgnoringCaseTest() {
+        legacyUser("John123");
+
+        assertTrue(userRepository.existsUnkeyed("john123"));
+        assertFalse(userRepository.existsUnkeyed("john12"));
+    }
+
+    private User legacyUser(String username) {
+        User legacyUser = new User();
+        legacyUser.setUsername(username);
+        legacyUser.setPassword("password");
+        return userRepository.save(legacyUser);
+    }
+
+    private static RegisterRequest registerRequest(String username) {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername(username);
+        registerRequest.setPassword("password");
+        return registerRequest;
+    }
+}
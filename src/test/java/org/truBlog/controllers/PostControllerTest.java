@@ -0,0 +1,137 @@
+package org.truBlog.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.truBlog.data.repositories.CommentRepository;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.dataTransferObjects.requests.CommentInPostRequest;
+import org.truBlog.dataTransferObjects.requests.CreatePostRequest;
+import org.truBlog.dataTransferObjects.requests.LoginRequest;
+import org.truBlog.dataTransferObjects.requests.RegisterRequest;
+import org.truBlog.services.UserService;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class PostControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private String postId;
+
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        postRepository.deleteAll();
+        commentRepository.deleteAll();
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+        userService.signUp(registerRequest);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("john123");
+        loginRequest.setPassword("password");
+        token = userService.login(loginRequest).getToken();
+
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
+        createPostRequest.setTitle("the prestige");
+        createPostRequest.setContent("magician illusion.");
+        postId = userService.createPost(createPostRequest).getId();
+    }
+
+    @Test
+    public void unchangedPostIsRead_ReturnsNotModifiedTest() throws Exception {
+        String tag = mockMvc.perform(get("/api/v1/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("the prestige"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/posts/{postId}", postId).header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void commentedPostIsRead_ReturnsNewRepresentationTest() throws Exception {
+        String tag = mockMvc.perform(get("/api/v1/posts/{postId}", postId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        comment("this is amazing");
+
+        mockMvc.perform(get("/api/v1/posts/{postId}", postId).header(HttpHeaders.IF_NONE_MATCH, tag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].comment").value("this is amazing"));
+    }
+
+    @Test
+    public void commentsAreListed_StreamedAsJsonArrayTest() throws Exception {
+        for (int count = 0; count < 3; count++) comment("comment " + count);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/posts/{postId}/comments", postId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].comment").value("comment 2"));
+    }
+
+    @Test
+    public void nonExistentPostIsRead_ReturnsNotFoundTest() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/{postId}", "65f1c2a9e4b0a1b2c3d4e5f6"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Post 65f1c2a9e4b0a1b2c3d4e5f6 does not Exist"));
+    }
+
+    @Test
+    public void commentIsPosted_RequiresBearerTokenTest() throws Exception {
+        String body = "{\"comment\": \"this is amazing\"}";
+
+        mockMvc.perform(post("/api/v1/posts/{postId}/comments", postId).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/posts/{postId}/comments", postId).contentType(MediaType.APPLICATION_JSON).content(body)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.commenterUsername").value("john123"));
+    }
+
+    private void comment(String comment) {
+        CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
+        commentInPostRequest.setPostId(postId);
+        commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setToken(token);
+        commentInPostRequest.setComment(comment);
+        userService.commentInPost(commentInPostRequest);
+    }
+}
@@ -0,0 +1,113 @@
+package org.truBlog.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.truBlog.data.repositories.CommentRepository;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.dataTransferObjects.requests.CreatePostRequest;
+import org.truBlog.dataTransferObjects.requests.LoginRequest;
+import org.truBlog.dataTransferObjects.requests.RegisterRequest;
+import org.truBlog.dataTransferObjects.responses.CreatePostResponse;
+import org.truBlog.dataTransferObjects.responses.LoginResponse;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+public class ReactivePostControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private String postId;
+
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        postRepository.deleteAll();
+        commentRepository.deleteAll();
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+        webTestClient.post().uri("/api/v1/users").bodyValue(registerRequest).exchange()
+                .expectStatus().isCreated();
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("john123");
+        loginRequest.setPassword("password");
+        token = webTestClient.post().uri("/api/v1/users/login").bodyValue(loginRequest).exchange()
+                .expectStatus().isOk()
+                .expectBody(LoginResponse.class).returnResult().getResponseBody().getToken();
+
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setTitle("the prestige");
+        createPostRequest.setContent("magician illusion.");
+        postId = webTestClient.post().uri("/api/v1/posts").header(HttpHeaders.AUTHORIZATION, "Bearer " + token).bodyValue(createPostRequest).exchange()
+                .expectStatus().isCreated()
+                .expectBody(CreatePostResponse.class).returnResult().getResponseBody().getId();
+    }
+
+    @Test
+    public void reactiveProfile_RegistersOnlyReactiveControllersTest() {
+        assertTrue(applicationContext.getBeansOfType(PostController.class).isEmpty());
+        assertTrue(applicationContext.getBeansOfType(JsonArrayStreamer.class).isEmpty());
+        assertEquals(1, applicationContext.getBeansOfType(ReactivePostController.class).size());
+    }
+
+    @Test
+    public void postIsViewedAndRead_ServedByReactiveHandlersTest() {
+        webTestClient.post().uri("/api/v1/posts/{postId}/views", postId).exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.get().uri("/api/v1/posts/{postId}", postId).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.title").isEqualTo("the prestige");
+    }
+
+    @Test
+    public void commentIsPosted_RequiresBearerTokenTest() {
+        Map<String, String> body = Map.of("comment", "this is amazing");
+
+        webTestClient.post().uri("/api/v1/posts/{postId}/comments", postId).bodyValue(body).exchange()
+                .expectStatus().isForbidden();
+        webTestClient.post().uri("/api/v1/posts/{postId}/comments", postId).header(HttpHeaders.AUTHORIZATION, "Bearer " + token).bodyValue(body).exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.commenterUsername").isEqualTo("john123");
+    }
+
+    @Test
+    public void nonExistentPostIsRead_ReturnsNotFoundTest() {
+        webTestClient.get().uri("/api/v1/posts/{postId}", "65f1c2a9e4b0a1b2c3d4e5f6").exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.message").isEqualTo("Post 65f1c2a9e4b0a1b2c3d4e5f6 does not Exist");
+    }
+}
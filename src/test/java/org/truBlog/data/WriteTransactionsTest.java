@@ -0,0 +1,115 @@
+package org.truBlog.data;
+
+import com.mongodb.MongoException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.truBlog.data.models.Post;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.dataTransferObjects.requests.CreatePostRequest;
+import org.truBlog.dataTransferObjects.requests.LoginRequest;
+import org.truBlog.dataTransferObjects.requests.RegisterRequest;
+import org.truBlog.services.UserService;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "de.flapdoodle.mongodb.embedded.storage.repl-set-name=rs0",
+        "trublog.transactions.enabled=true",
+        "trublog.transactions.max-attempts=3",
+        "trublog.transactions.retry-backoff-ms=1"
+})
+public class WriteTransactionsTest {
+
+    @Autowired
+    private WriteTransactions writeTransactions;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        postRepository.deleteAll();
+    }
+
+    @Test
+    public void failedFanOut_RollsBackEveryWriteTest() {
+        Post post = new Post();
+        post.setTitle("the prestige");
+
+        assertThrows(IllegalStateException.class, () -> writeTransactions.execute(() -> {
+            postRepository.save(post);
+            throw new IllegalStateException("failure between writes");
+        }));
+        assertEquals(0, postRepository.count());
+    }
+
+    @Test
+    public void transientFailure_IsRetriedUntilAttemptsRunOutTest() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(MongoException.class, () -> writeTransactions.execute(() -> {
+            attempts.incrementAndGet();
+            throw transientFailure();
+        }));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void transientFailure_SucceedsOnRetryTest() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Post saved = writeTransactions.execute(() -> {
+            Post post = new Post();
+            post.setTitle("attempt " + attempts.incrementAndGet());
+            postRepository.save(post);
+            if (attempts.get() == 1) throw transientFailure();
+            return post;
+        });
+
+        assertEquals(2, attempts.get());
+        assertEquals(1, postRepository.count());
+        assertEquals("attempt 2", postRepository.findById(saved.getId()).get().getTitle());
+    }
+
+    @Test
+    public void createPost_CommitsPostAndUserReferenceTogetherTest() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+        userService.signUp(registerRequest);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("john123");
+        loginRequest.setPassword("password");
+
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setToken(userService.login(loginRequest).getToken());
+        createPostRequest.setTitle("the prestige");
+        createPostRequest.setContent("magician illusion.");
+        String postId = userService.createPost(createPostRequest).getId();
+
+        assertTrue(postRepository.existsById(postId));
+        assertTrue(userRepository.ownsPost(userRepository.findByUsername("john123").get().getId(), postId));
+    }
+
+    private static MongoException transientFailure() {
+        MongoException exception = new MongoException(112, "WriteConflict");
+        exception.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        return exception;
+    }
+}
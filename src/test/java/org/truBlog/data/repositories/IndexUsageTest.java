@@ -0,0 +1,86 @@
+package org.truBlog.data.repositories;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.truBlog.data.models.Comment;
+import org.truBlog.data.models.Post;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class IndexUsageTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @BeforeEach
+    public void setUp() {
+        postRepository.deleteAll();
+        commentRepository.deleteAll();
+        for (int count = 0; count < 50; count++) {
+            Post post = new Post();
+            post.setAuthorId(new ObjectId().toHexString());
+            post.setTitle("post " + count);
+            postRepository.save(post);
+            Comment comment = new Comment();
+            comment.setPostId(post.getId());
+            comment.setComment("comment " + count);
+            commentRepository.save(comment);
+        }
+    }
+
+    @Test
+    public void postOwnershipLookup_UsesAuthorIndexTest() {
+        Post post = postRepository.findAll().get(0);
+        Document filter = new Document("_id", new ObjectId(post.getId())).append("authorId", post.getAuthorId());
+        assertFalse(usesCollectionScan("Posts", filter));
+        assertTrue(indexScans("Posts", new Document("authorId", post.getAuthorId())).contains("author_newest"));
+    }
+
+    @Test
+    public void commentLookupByPost_UsesPostIndexTest() {
+        Comment comment = commentRepository.findAll().get(0);
+        Document filter = new Document("postId", comment.getPostId());
+        assertTrue(indexScans("Comments", filter).contains("post_newest"));
+        assertFalse(usesCollectionScan("Comments", new Document("_id", new ObjectId(comment.getId())).append("postId", comment.getPostId())));
+    }
+
+    private List<String> indexScans(String collection, Document filter) {
+        List<String> indexNames = new ArrayList<>();
+        collectStages(winningPlan(collection, filter), "IXSCAN", indexNames);
+        return indexNames;
+    }
+
+    private boolean usesCollectionScan(String collection, Document filter) {
+        List<String> stages = new ArrayList<>();
+        collectStages(winningPlan(collection, filter), "COLLSCAN", stages);
+        return !stages.isEmpty();
+    }
+
+    private Document winningPlan(String collection, Document filter) {
+        Document explain = mongoTemplate.getDb().runCommand(new Document("explain", new Document("find", collection).append("filter", filter)).append("verbosity", "queryPlanner"));
+        Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        return winningPlan.containsKey("queryPlan") ? winningPlan.get("queryPlan", Document.class) : winningPlan;
+    }
+
+    private void collectStages(Document plan, String stage, List<String> found) {
+        if (plan == null) return;
+        if (stage.equals(plan.getString("stage"))) found.add(plan.getString("indexName") == null ? stage : plan.getString("indexName"));
+        if (plan.containsKey("inputStage")) collectStages(plan.get("inputStage", Document.class), stage, found);
+        if (plan.containsKey("inputStages")) plan.getList("inputStages", Document.class).forEach(input -> collectStages(input, stage, found));
+    }
+}
@@ -0,0 +1,47 @@
+package org.truBlog.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.truBlog.dataTransferObjects.requests.LoginRequest;
+import org.truBlog.exceptions.UserNotFoundException;
+import org.truBlog.services.UserService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class ServiceMetricsAspectTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void failedServiceCall_IsTimedAndCountedOnceTest() {
+        double exceptionsBefore = exceptionCount();
+        long invocationsBefore = invocationCount();
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("nobody123");
+        loginRequest.setPassword("password");
+        assertThrows(UserNotFoundException.class, () -> userService.login(loginRequest));
+
+        assertEquals(exceptionsBefore + 1, exceptionCount());
+        assertEquals(invocationsBefore + 1, invocationCount());
+    }
+
+    private double exceptionCount() {
+        Counter counter = meterRegistry.find("trublog.exceptions").tags("exception", "UserNotFoundException", "method", "login").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long invocationCount() {
+        Timer timer = meterRegistry.find("trublog.service.invocations").tags("method", "login", "outcome", "UserNotFoundException").timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
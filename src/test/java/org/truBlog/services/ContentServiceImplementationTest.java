@@ -0,0 +1,134 @@
+package org.truBlog.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.truBlog.data.models.ContentBlob;
+import org.truBlog.data.models.Post;
+import org.truBlog.data.models.StoredContent;
+import org.truBlog.data.repositories.CommentRepository;
+import org.truBlog.data.repositories.ContentBlobRepository;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.dataTransferObjects.requests.*;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "trublog.content.inline-threshold-bytes=64")
+public class ContentServiceImplementationTest {
+
+    private static final String LONG_CONTENT = "magician illusion. ".repeat(200);
+
+    @Autowired
+    private ContentService contentService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ContentBlobRepository contentBlobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        postRepository.deleteAll();
+        commentRepository.deleteAll();
+        contentBlobRepository.deleteAll();
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+        userService.signUp(registerRequest);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("john123");
+        loginRequest.setPassword("password");
+        token = userService.login(loginRequest).getToken();
+    }
+
+    @Test
+    public void shortContent_IsStoredInlineTest() {
+        StoredContent storedContent = contentService.store("magician illusion.");
+
+        assertEquals("magician illusion.", storedContent.inline());
+        assertNull(storedContent.hash());
+        assertEquals(0, contentBlobRepository.count());
+    }
+
+    @Test
+    public void longContent_IsStoredOnceAndCompressedTest() {
+        StoredContent storedContent = contentService.store(LONG_CONTENT);
+        StoredContent duplicateContent = contentService.store(new String(LONG_CONTENT));
+
+        assertNull(storedContent.inline());
+        assertEquals(storedContent.hash(), duplicateContent.hash());
+        assertEquals(1, contentBlobRepository.count());
+        ContentBlob contentBlob = contentBlobRepository.findById(storedContent.hash()).get();
+        assertTrue(contentBlob.isCompressed());
+        assertTrue(contentBlob.getData().length < contentBlob.getLength());
+    }
+
+    @Test
+    public void longPostIsRead_ContentIsFetchedFromBlobStoreTest() {
+        String postId = createPost(LONG_CONTENT);
+
+        Post post = postRepository.findById(postId).get();
+        assertNull(post.getContent());
+        assertNotNull(post.getContentHash());
+        assertEquals(LONG_CONTENT, contentService.read(post));
+        assertEquals(Map.of(postId, LONG_CONTENT), contentService.readAll(List.of(post)));
+
+        ReadPostRequest readPostRequest = new ReadPostRequest();
+        readPostRequest.setPostId(postId);
+        assertEquals(LONG_CONTENT, userService.readPost(readPostRequest).getContent());
+    }
+
+    @Test
+    public void postIsEditedWithUnchangedContent_BlobIsReusedTest() {
+        String postId = createPost(LONG_CONTENT);
+        String contentHash = postRepository.findById(postId).get().getContentHash();
+
+        EditPostRequest editPostRequest = new EditPostRequest();
+        editPostRequest.setUsername("john123");
+        editPostRequest.setToken(token);
+        editPostRequest.setPostId(postId);
+        editPostRequest.setEditedTitle("the prestige, revisited");
+        editPostRequest.setEditedContent(LONG_CONTENT);
+        userService.editPost(editPostRequest);
+
+        assertEquals(contentHash, postRepository.findById(postId).get().getContentHash());
+        assertEquals(1, contentBlobRepository.count());
+
+        editPostRequest.setEditedContent("rival magicians.");
+        userService.editPost(editPostRequest);
+        Post post = postRepository.findById(postId).get();
+        assertEquals("rival magicians.", post.getContent());
+        assertNull(post.getContentHash());
+    }
+
+    private String createPost(String content) {
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
+        createPostRequest.setTitle("the prestige");
+        createPostRequest.setContent(content);
+        return userService.createPost(createPostRequest).getId();
+    }
+}
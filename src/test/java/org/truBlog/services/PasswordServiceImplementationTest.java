@@ -0,0 +1,82 @@
+package org.truBlog.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.truBlog.exceptions.ServiceBusyException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"trublog.passwords.iterations=50000", "trublog.passwords.threads=1", "trublog.passwords.queue-capacity=1"})
+public class PasswordServiceImplementationTest {
+
+    @Autowired
+    private PasswordService passwordService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void hashedPassword_VerifiesOnlyTheOriginalPasswordTest() {
+        String passwordHash = passwordService.hash("password");
+
+        assertTrue(passwordHash.startsWith("pbkdf2-sha256$50000$"));
+        assertNotEquals(passwordHash, passwordService.hash("password"));
+        assertTrue(passwordService.verify("password", passwordHash));
+        assertFalse(passwordService.verify("Password", passwordHash));
+        assertFalse(passwordService.needsRehash(passwordHash));
+    }
+
+    @Test
+    public void changedCostOrPlaintext_NeedsRehashTest() {
+        String passwordHash = passwordService.hash("password");
+        String cheaperHash = passwordHash.replace("$50000$", "$1000$");
+
+        assertTrue(passwordService.needsRehash(cheaperHash));
+        assertFalse(passwordService.verify("password", cheaperHash));
+        assertTrue(passwordService.needsRehash("password"));
+        assertTrue(passwordService.verify("password", "password"));
+        assertFalse(passwordService.verify("password", null));
+    }
+
+    @Test
+    public void malformedHash_FailsVerificationTest() {
+        String passwordHash = passwordService.hash("password");
+        String[] fields = passwordHash.split("\\$");
+
+        for (String malformedHash : List.of(String.join("$", fields[0], "many", fields[2], fields[3]), String.join("$", fields[0], "0", fields[2], fields[3]),
+                String.join("$", fields[0], fields[1], "not base64!", fields[3]), String.join("$", fields[0], fields[1], fields[2]))) {
+            assertFalse(passwordService.verify("password", malformedHash));
+            assertTrue(passwordService.needsRehash(malformedHash));
+        }
+    }
+
+    @Test
+    public void saturatedExecutor_RejectsInsteadOfQueueingTest() throws Exception {
+        int rejected = 0;
+        try (ExecutorService executorService = Executors.newFixedThreadPool(16)) {
+            List<Future<String>> hashes = new ArrayList<>();
+            for (int count = 0; count < 16; count++) hashes.add(executorService.submit(() -> passwordService.hash("password")));
+            for (Future<String> hash : hashes) {
+                try {
+                    hash.get();
+                } catch (ExecutionException exception) {
+                    assertInstanceOf(ServiceBusyException.class, exception.getCause());
+                    rejected++;
+                }
+            }
+        }
+
+        assertTrue(rejected > 0);
+        assertTrue(meterRegistry.get("trublog.passwords.hashing").timer().count() > 0);
+        assertTrue(meterRegistry.get("trublog.passwords.queue.wait").timer().count() > 0);
+    }
+}
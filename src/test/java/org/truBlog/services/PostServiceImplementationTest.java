@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.truBlog.data.models.Post;
+import org.truBlog.data.models.User;
 import org.truBlog.data.repositories.PostRepository;
 import org.truBlog.dataTransferObjects.requests.CreatePostRequest;
 import org.truBlog.dataTransferObjects.requests.EditPostRequest;
@@ -38,9 +39,12 @@ public class PostServiceImplementationTest {
         createPostRequest.setTitle("Inception");
         createPostRequest.setContent("Dreams within dreams.");
 
-        Post post = postService.createPost(createPostRequest);
+        User author = new User();
+        author.setId("65f1c2a9e4b0a1b2c3d4e5f6");
+        Post post = postService.createPost(createPostRequest, author);
         assertEquals(1, postRepository.count());
         assertEquals("Inception", post.getTitle());
+        assertEquals(author.getId(), post.getAuthorId());
     }
 
 
@@ -0,0 +1,144 @@
+package org.truBlog.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.truBlog.dataTransferObjects.requests.LoginRequest;
+import org.truBlog.dataTransferObjects.requests.StreamCommentsRequest;
+import org.truBlog.dataTransferObjects.requests.ViewPostRequest;
+import org.truBlog.exceptions.PostNotFoundException;
+import org.truBlog.exceptions.RateLimitExceededException;
+import org.truBlog.exceptions.UserNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"trublog.rate-limits.enabled=true",
+        "trublog.rate-limits.user-writes.per-second=0.001", "trublog.rate-limits.user-writes.burst=3",
+        "trublog.rate-limits.post-reads.per-second=1000000", "trublog.rate-limits.post-reads.burst=1",
+        "trublog.rate-limits.user-reads.per-second=0.001", "trublog.rate-limits.user-reads.burst=2",
+        "trublog.rate-limits.address-reads.per-second=0.001", "trublog.rate-limits.address-reads.burst=3",
+        "trublog.rate-limits.address-writes.per-second=0.001", "trublog.rate-limits.address-writes.burst=2"})
+public class RateLimitServiceImplementationTest {
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    public void burstIsSpent_NextRequestIsRejectedTest() {
+        for (int count = 0; count < 3; count++) rateLimitService.acquire(RateLimit.USER_WRITES, "john123");
+
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class, () -> rateLimitService.acquire(RateLimit.USER_WRITES, "john123"));
+        assertTrue(exception.getRetryAfterSeconds() > 0);
+        assertDoesNotThrow(() -> rateLimitService.acquire(RateLimit.USER_WRITES, "jane123"));
+        assertDoesNotThrow(() -> rateLimitService.acquire(RateLimit.USER_WRITES, null));
+    }
+
+    @Test
+    public void concurrentRequests_AdmitExactlyTheBurstTest() throws Exception {
+        int admitted = 0;
+        try (ExecutorService executorService = Executors.newFixedThreadPool(16)) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int thread = 0; thread < 16; thread++) {
+                results.add(executorService.submit(() -> {
+                    int acquired = 0;
+                    for (int count = 0; count < 10; count++) {
+                        try {
+                            rateLimitService.acquire(RateLimit.USER_WRITES, "shared");
+                            acquired++;
+                        } catch (RateLimitExceededException ignored) {
+                        }
+                    }
+                    return acquired;
+                }));
+            }
+            for (Future<Integer> result : results) admitted += result.get();
+        }
+
+        assertEquals(3, admitted);
+    }
+
+    @Test
+    public void idleKeysAreEvictedTest() throws InterruptedException {
+        rateLimitService.acquire(RateLimit.POST_READS, "65f1c2a9e4b0a1b2c3d4e5f6");
+        Thread.sleep(5);
+
+        assertTrue(rateLimitService.evictIdleKeys() >= 1);
+        assertDoesNotThrow(() -> rateLimitService.acquire(RateLimit.POST_READS, "65f1c2a9e4b0a1b2c3d4e5f6"));
+    }
+
+    @Test
+    public void viewWithUnauthenticatedUsername_DoesNotSpendThatUsersReadsTest() {
+        for (int count = 0; count < 3; count++) {
+            ViewPostRequest viewPostRequest = viewPostRequest("spoofed" + count, "10.0.0.1");
+            assertThrows(UserNotFoundException.class, () -> userService.viewPost(viewPostRequest));
+        }
+
+        assertDoesNotThrow(() -> rateLimitService.acquire(RateLimit.USER_READS, "spoofed-user"));
+        assertDoesNotThrow(() -> rateLimitService.acquire(RateLimit.USER_READS, "spoofed-user"));
+    }
+
+    @Test
+    public void anonymousViewsFromOneAddress_SpendTheAddressBucketTest() {
+        for (int count = 0; count < 3; count++) {
+            ViewPostRequest viewPostRequest = viewPostRequest("address" + count, "10.0.0.2");
+            assertThrows(UserNotFoundException.class, () -> userService.viewPost(viewPostRequest));
+        }
+
+        assertThrows(RateLimitExceededException.class, () -> userService.viewPost(viewPostRequest("address3", "10.0.0.2")));
+        assertThrows(UserNotFoundException.class, () -> userService.viewPost(viewPostRequest("address4", "10.0.0.3")));
+    }
+
+    @Test
+    public void anonymousCommentStreamsFromOneAddress_SpendTheAddressBucketTest() {
+        for (int count = 0; count < 3; count++) {
+            StreamCommentsRequest streamCommentsRequest = streamCommentsRequest("comments" + count, "10.0.0.4");
+            assertThrows(PostNotFoundException.class, () -> userService.streamComments(streamCommentsRequest));
+        }
+
+        assertThrows(RateLimitExceededException.class, () -> userService.streamComments(streamCommentsRequest("comments3", "10.0.0.4")));
+        assertThrows(PostNotFoundException.class, () -> userService.streamComments(streamCommentsRequest("comments4", "10.0.0.5")));
+    }
+
+    @Test
+    public void loginAttemptsFromOneAddress_SpendTheAddressWriteBucketTest() {
+        for (int count = 0; count < 2; count++) {
+            LoginRequest loginRequest = loginRequest("10.0.0.6");
+            assertThrows(UserNotFoundException.class, () -> userService.login(loginRequest));
+        }
+
+        assertThrows(RateLimitExceededException.class, () -> userService.login(loginRequest("10.0.0.6")));
+        assertThrows(UserNotFoundException.class, () -> userService.login(loginRequest("10.0.0.7")));
+    }
+
+    private LoginRequest loginRequest(String clientAddress) {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("missing-user");
+        loginRequest.setPassword("password");
+        loginRequest.setClientAddress(clientAddress);
+        return loginRequest;
+    }
+
+    private StreamCommentsRequest streamCommentsRequest(String postId, String clientAddress) {
+        StreamCommentsRequest streamCommentsRequest = new StreamCommentsRequest();
+        streamCommentsRequest.setPostId(postId);
+        streamCommentsRequest.setClientAddress(clientAddress);
+        return streamCommentsRequest;
+    }
+
+    private ViewPostRequest viewPostRequest(String postId, String clientAddress) {
+        ViewPostRequest viewPostRequest = new ViewPostRequest();
+        viewPostRequest.setId(postId);
+        viewPostRequest.setUsername("spoofed-user");
+        viewPostRequest.setClientAddress(clientAddress);
+        return viewPostRequest;
+    }
+}
@@ -0,0 +1,132 @@
+package org.truBlog.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.truBlog.data.repositories.CommentRepository;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.PostViewCountRepository;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.data.repositories.ViewRepository;
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.dataTransferObjects.responses.*;
+import org.truBlog.exceptions.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+public class ReactiveUserServiceImplementationTest {
+
+    @Autowired
+    private ReactiveUserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ViewRepository viewRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostViewCountRepository postViewCountRepository;
+
+    @Autowired
+    private ViewWriteBehindService viewWriteBehindService;
+
+    private String postId;
+
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        viewWriteBehindService.flush();
+        userRepository.deleteAll();
+        postRepository.deleteAll();
+        viewRepository.deleteAll();
+        commentRepository.deleteAll();
+        postViewCountRepository.deleteAll();
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+        userService.signUp(registerRequest).block();
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("john123");
+        loginRequest.setPassword("password");
+        token = userService.login(loginRequest).block().getToken();
+
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
+        createPostRequest.setTitle("the prestige");
+        createPostRequest.setContent("magician illusion.");
+        postId = userService.createPost(createPostRequest).block().getId();
+    }
+
+    @Test
+    public void userCommentsInPost_CommentAndViewAreSavedTest() {
+        CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
+        commentInPostRequest.setPostId(postId);
+        commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setToken(token);
+        commentInPostRequest.setComment("this is amazing");
+        CommentInPostResponse commentInPostResponse = userService.commentInPost(commentInPostRequest).block();
+
+        assertEquals("this is amazing", commentInPostResponse.getComment());
+        assertEquals("john123", commentInPostResponse.getCommenterUsername());
+        assertEquals(1, commentRepository.count());
+        assertEquals(1, viewRepository.count());
+        assertEquals(1, postRepository.findById(postId).get().getComments().size());
+    }
+
+    @Test
+    public void userReadsPost_CommentsAndViewsAreReturnedTest() {
+        CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
+        commentInPostRequest.setPostId(postId);
+        commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setToken(token);
+        commentInPostRequest.setComment("this is amazing");
+        userService.commentInPost(commentInPostRequest).block();
+
+        ReadPostRequest readPostRequest = new ReadPostRequest();
+        readPostRequest.setPostId(postId);
+        ReadPostResponse readPostResponse = userService.readPost(readPostRequest).block();
+
+        assertEquals("the prestige", readPostResponse.getTitle());
+        assertEquals(1, readPostResponse.getComments().size());
+        assertEquals(1, readPostResponse.getViewCount());
+    }
+
+    @Test
+    public void userCommentsInNonExistentPost_ThrowsExceptionTest() {
+        CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
+        commentInPostRequest.setPostId("65f1c2a9e4b0a1b2c3d4e5f6");
+        commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setToken(token);
+        commentInPostRequest.setComment("this is amazing");
+
+        assertThrows(PostNotFoundException.class, () -> userService.commentInPost(commentInPostRequest).block());
+        assertEquals(0, commentRepository.count());
+    }
+
+    @Test
+    public void userSignsUpWithExistingUsername_ThrowsExceptionTest() {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("jack");
+        registerRequest.setLastName("smith");
+        registerRequest.setUsername("JOHN123");
+        registerRequest.setPassword("password");
+
+        assertThrows(IllegalArgumentException.class, () -> userService.signUp(registerRequest).block());
+    }
+}
@@ -0,0 +1,182 @@
+package org.truBlog.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.truBlog.data.models.PostRevision;
+import org.truBlog.data.repositories.CommentRepository;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.PostRevisionRepository;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.dataTransferObjects.responses.EditPostResponse;
+import org.truBlog.dataTransferObjects.responses.PostRevisionResponse;
+import org.truBlog.exceptions.RevisionNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"trublog.revisions.snapshot-interval=4", "trublog.content.inline-threshold-bytes=64"})
+public class RevisionServiceImplementationTest {
+
+    private static final String CONTENT = "magician illusion. ".repeat(50);
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PostRevisionRepository postRevisionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private String token;
+
+    private String postId;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        postRepository.deleteAll();
+        commentRepository.deleteAll();
+        postRevisionRepository.deleteAll();
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+        userService.signUp(registerRequest);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("john123");
+        loginRequest.setPassword("password");
+        token = userService.login(loginRequest).getToken();
+
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
+        createPostRequest.setTitle("the prestige");
+        createPostRequest.setContent(CONTENT);
+        postId = userService.createPost(createPostRequest).getId();
+    }
+
+    @Test
+    public void everyRevisionIsReconstructedTest() {
+        List<String> contents = new ArrayList<>(List.of(CONTENT));
+        String content = CONTENT;
+        for (int revision = 1; revision <= 10; revision++) {
+            content = content.replaceFirst("illusion", "trick " + revision);
+            contents.add(content);
+            EditPostResponse editPostResponse = edit("the prestige " + revision, content);
+            assertEquals(revision, editPostResponse.getRevision());
+        }
+
+        for (int revision = 0; revision <= 10; revision++) {
+            PostRevisionResponse postRevisionResponse = readRevision(revision);
+            assertEquals(contents.get(revision), postRevisionResponse.getContent());
+            assertEquals(revision == 0 ? "the prestige" : "the prestige " + revision, postRevisionResponse.getTitle());
+        }
+    }
+
+    @Test
+    public void smallEdits_AreStoredAsDeltasBetweenSnapshotsTest() {
+        String content = CONTENT;
+        for (int revision = 1; revision <= 9; revision++) {
+            content = content.replaceFirst("illusion", "trick " + revision);
+            edit(null, content);
+        }
+
+        List<Integer> snapshots = new ArrayList<>();
+        for (PostRevision postRevision : postRevisionRepository.findAll()) {
+            if (postRevision.isSnapshot()) {
+                snapshots.add(postRevision.getRevision());
+            } else {
+                assertTrue(postRevision.getDelta().length < 64);
+            }
+        }
+        snapshots.sort(null);
+        assertEquals(List.of(0, 4, 8), snapshots);
+        assertEquals(10, postRevisionRepository.count());
+    }
+
+    @Test
+    public void missingRevisionIsRead_ThrowsExceptionTest() {
+        edit("the prestige, revisited", null);
+
+        assertEquals("the prestige", readRevision(0).getTitle());
+        assertEquals(CONTENT, readRevision(1).getContent());
+        assertThrows(RevisionNotFoundException.class, () -> readRevision(2));
+        assertThrows(RevisionNotFoundException.class, () -> readRevision(-1));
+    }
+
+    @Test
+    public void revisionChainHasAGap_ReadIsRejectedTest() {
+        String content = CONTENT;
+        for (int revision = 1; revision <= 3; revision++) {
+            content = content.replaceFirst("illusion", "trick " + revision);
+            edit(null, content);
+        }
+        postRevisionRepository.deleteById(postId + ":1");
+
+        assertEquals(CONTENT, readRevision(0).getContent());
+        assertThrows(RevisionNotFoundException.class, () -> readRevision(1));
+        assertThrows(RevisionNotFoundException.class, () -> readRevision(2));
+    }
+
+    @Test
+    public void revisionWriteWasLost_NextEditRecordsASnapshotTest() {
+        String first = CONTENT.replaceFirst("illusion", "trick 1");
+        String second = first.replaceFirst("illusion", "trick 2");
+        String third = second.replaceFirst("illusion", "trick 3");
+        edit(null, first);
+        edit(null, second);
+        postRevisionRepository.deleteById(postId + ":2");
+
+        edit(null, third);
+
+        assertTrue(postRevisionRepository.findById(postId + ":2").orElseThrow().isSnapshot());
+        assertEquals(first, readRevision(1).getContent());
+        assertEquals(second, readRevision(2).getContent());
+        assertEquals(third, readRevision(3).getContent());
+    }
+
+    @Test
+    public void postIsDeleted_RevisionsAreDeletedTest() {
+        edit("the prestige, revisited", null);
+
+        DeletePostRequest deletePostRequest = new DeletePostRequest();
+        deletePostRequest.setUsername("john123");
+        deletePostRequest.setToken(token);
+        deletePostRequest.setPostId(postId);
+        userService.deletePost(deletePostRequest);
+
+        assertEquals(0, postRevisionRepository.count());
+    }
+
+    private EditPostResponse edit(String title, String content) {
+        EditPostRequest editPostRequest = new EditPostRequest();
+        editPostRequest.setUsername("john123");
+        editPostRequest.setToken(token);
+        editPostRequest.setPostId(postId);
+        editPostRequest.setEditedTitle(title);
+        editPostRequest.setEditedContent(content);
+        return userService.editPost(editPostRequest);
+    }
+
+    private PostRevisionResponse readRevision(int revision) {
+        ReadPostRevisionRequest readPostRevisionRequest = new ReadPostRevisionRequest();
+        readPostRevisionRequest.setPostId(postId);
+        readPostRevisionRequest.setRevision(revision);
+        return userService.readPostRevision(readPostRevisionRequest);
+    }
+}
@@ -0,0 +1,153 @@
+package org.truBlog.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.truBlog.data.repositories.CommentRepository;
+import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.dataTransferObjects.requests.*;
+import org.truBlog.dataTransferObjects.responses.SearchPostsResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class SearchServiceImplementationTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        postRepository.deleteAll();
+        commentRepository.deleteAll();
+        searchService.reindexAll();
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+        userService.signUp(registerRequest);
+
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername("john123");
+        loginRequest.setPassword("password");
+        token = userService.login(loginRequest).getToken();
+    }
+
+    @Test
+    public void postsAreSearched_TitleMatchesRankAboveCommentMatchesTest() {
+        String prestige = createPost("the prestige", "magician illusion.");
+        String inception = createPost("inception", "dreams within dreams.");
+        comment(inception, "better than the prestige");
+        searchService.indexDirtyPosts();
+
+        SearchPostsResponse searchPostsResponse = search("prestige", 0, 10);
+
+        assertEquals(2, searchPostsResponse.getTotalHits());
+        assertEquals(prestige, searchPostsResponse.getHits().get(0).getPostId());
+        assertEquals(inception, searchPostsResponse.getHits().get(1).getPostId());
+        assertFalse(searchPostsResponse.isPartial());
+    }
+
+    @Test
+    public void editedAndDeletedPosts_AreUpdatedInIndexTest() {
+        String prestige = createPost("the prestige", "magician illusion.");
+        searchService.indexDirtyPosts();
+
+        EditPostRequest editPostRequest = new EditPostRequest();
+        editPostRequest.setUsername("john123");
+        editPostRequest.setToken(token);
+        editPostRequest.setPostId(prestige);
+        editPostRequest.setEditedContent("rival magicians.");
+        userService.editPost(editPostRequest);
+        searchService.indexDirtyPosts();
+        assertEquals(1, search("rival", 0, 10).getTotalHits());
+        assertEquals(0, search("illusion", 0, 10).getTotalHits());
+
+        DeletePostRequest deletePostRequest = new DeletePostRequest();
+        deletePostRequest.setUsername("john123");
+        deletePostRequest.setToken(token);
+        deletePostRequest.setPostId(prestige);
+        userService.deletePost(deletePostRequest);
+        searchService.indexDirtyPosts();
+        assertEquals(0, search("rival", 0, 10).getTotalHits());
+    }
+
+    @Test
+    public void searchResultsArePagedTest() {
+        for (int count = 0; count < 5; count++) createPost("magic " + count, "illusion " + count);
+        searchService.indexDirtyPosts();
+
+        SearchPostsResponse secondPage = search("magic", 1, 2);
+
+        assertEquals(5, secondPage.getTotalHits());
+        assertEquals(2, secondPage.getHits().size());
+        assertEquals(1, secondPage.getPage());
+    }
+
+    @Test
+    public void fullReindex_RestoresEveryPostTest() {
+        for (int count = 0; count < 1200; count++) createPost("magic " + count, "illusion " + count);
+
+        assertEquals(1200, searchService.reindexAll());
+        assertEquals(1, search("1199", 0, 10).getTotalHits());
+        assertEquals(10, search("magic", 0, 10).getHits().size());
+    }
+
+    @Test
+    public void indexWasNotClosedCleanly_IsNotCurrentTest() {
+        createPost("the prestige", "magician illusion.");
+        searchService.reindexAll();
+
+        assertFalse(searchService.isCurrent());
+    }
+
+    @Test
+    public void emptyQueryIsSearched_ThrowsExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> search(" ", 0, 10));
+    }
+
+    private SearchPostsResponse search(String query, int page, int size) {
+        SearchPostsRequest searchPostsRequest = new SearchPostsRequest();
+        searchPostsRequest.setQuery(query);
+        searchPostsRequest.setPage(page);
+        searchPostsRequest.setSize(size);
+        return userService.searchPosts(searchPostsRequest);
+    }
+
+    private String createPost(String title, String content) {
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
+        createPostRequest.setTitle(title);
+        createPostRequest.setContent(content);
+        return userService.createPost(createPostRequest).getId();
+    }
+
+    private void comment(String postId, String comment) {
+        CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
+        commentInPostRequest.setPostId(postId);
+        commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setToken(token);
+        commentInPostRequest.setComment(comment);
+        userService.commentInPost(commentInPostRequest);
+    }
+}
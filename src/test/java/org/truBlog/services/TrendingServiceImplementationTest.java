@@ -0,0 +1,104 @@
+package org.truBlog.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.truBlog.data.models.TrendingCheckpoint;
+import org.truBlog.data.models.TrendingScore;
+import org.truBlog.data.repositories.TrendingCheckpointRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class TrendingServiceImplementationTest {
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private TrendingCheckpointRepository trendingCheckpointRepository;
+
+    private String prefix;
+
+    @BeforeEach
+    public void setUp() {
+        trendingCheckpointRepository.deleteAll();
+        prefix = UUID.randomUUID().toString();
+    }
+
+    @Test
+    public void commentsWeighMoreThanViews_TrendingIsOrderedByScoreTest() {
+        String viewed = prefix + "-viewed";
+        String commented = prefix + "-commented";
+        for (int count = 0; count < 1000; count++) trendingService.recordView(viewed);
+        for (int count = 0; count < 1000; count++) trendingService.recordComment(commented);
+
+        List<TrendingScore> trending = trendingService.trending(2);
+
+        assertEquals(2, trending.size());
+        assertEquals(commented, trending.get(0).postId());
+        assertEquals(viewed, trending.get(1).postId());
+        assertTrue(trending.get(0).score() > trending.get(1).score());
+    }
+
+    @Test
+    public void deletedPostIsForgotten_NoLongerTrendsTest() {
+        String deleted = prefix + "-deleted";
+        for (int count = 0; count < 5000; count++) trendingService.recordComment(deleted);
+        assertEquals(deleted, trendingService.trending(1).get(0).postId());
+
+        trendingService.forget(deleted);
+
+        assertTrue(trendingService.trending(100).stream().noneMatch(trendingScore -> trendingScore.postId().equals(deleted)));
+    }
+
+    @Test
+    public void concurrentRecords_KeepTopKBoundedAndConsistentTest() throws Exception {
+        String hot = prefix + "-hot";
+        try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> recorders = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                recorders.add(executorService.submit(() -> {
+                    for (int count = 0; count < 5000; count++) {
+                        trendingService.recordComment(hot);
+                        trendingService.recordView(prefix + "-cold-" + (count * 8 + offset));
+                    }
+                }));
+            }
+            for (Future<?> recorder : recorders) recorder.get();
+        }
+
+        List<TrendingScore> trending = trendingService.trending(1000);
+
+        assertEquals(hot, trending.get(0).postId());
+        assertTrue(trending.size() <= 100);
+        assertEquals(trending.size(), trending.stream().map(TrendingScore::postId).distinct().count());
+    }
+
+    @Test
+    public void checkpointIsRestoredTwice_ScoresAreNotDoubleCountedTest() {
+        String checkpointed = prefix + "-checkpointed";
+        for (int count = 0; count < 20000; count++) trendingService.recordComment(checkpointed);
+
+        trendingService.checkpoint();
+        TrendingCheckpoint trendingCheckpoint = trendingCheckpointRepository.findAll().get(0);
+        assertTrue(trendingCheckpoint.getTopPosts().stream().anyMatch(trendingScore -> trendingScore.postId().equals(checkpointed)));
+
+        double score = trendingService.trending(1).get(0).score();
+        trendingService.restore();
+        trendingService.restore();
+
+        TrendingScore restored = trendingService.trending(1).get(0);
+        assertEquals(checkpointed, restored.postId());
+        assertEquals(score, restored.score(), score * 0.01);
+    }
+}
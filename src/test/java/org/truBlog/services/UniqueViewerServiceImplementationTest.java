@@ -0,0 +1,94 @@
+package org.truBlog.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.truBlog.data.models.UniqueViewers;
+import org.truBlog.data.repositories.UniqueViewersRepository;
+import org.truBlog.dataTransferObjects.responses.UniqueViewersResponse;
+import org.truBlog.utilities.HyperLogLog;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class UniqueViewerServiceImplementationTest {
+
+    @Autowired
+    private UniqueViewerService uniqueViewerService;
+
+    @Autowired
+    private UniqueViewersRepository uniqueViewersRepository;
+
+    @BeforeEach
+    public void setUp() {
+        uniqueViewerService.flush();
+        uniqueViewersRepository.deleteAll();
+    }
+
+    @Test
+    public void viewsAreFlushed_UniqueViewersAreEstimatedTest() {
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int viewer = 0; viewer < 5_000; viewer++) uniqueViewerService.recordView("post", "viewer" + viewer);
+        }
+        UniqueViewersResponse pending = uniqueViewerService.estimateUniqueViewers("post", 1);
+
+        uniqueViewerService.flush();
+        UniqueViewersResponse flushed = uniqueViewerService.estimateUniqueViewers("post", 1);
+
+        assertEquals(pending.getUniqueViewers(), flushed.getUniqueViewers());
+        assertTrue(Math.abs(flushed.getUniqueViewers() - 5_000) <= 3 * flushed.getStandardError() * 5_000);
+        assertEquals(1, uniqueViewersRepository.count());
+    }
+
+    @Test
+    public void sketchesFromOtherNodes_AreMergedOnReadTest() {
+        for (int viewer = 0; viewer < 5_000; viewer++) uniqueViewerService.recordView("post", "viewer" + viewer);
+        uniqueViewerService.flush();
+        HyperLogLog otherNode = new HyperLogLog(12);
+        for (int viewer = 2_500; viewer < 7_500; viewer++) otherNode.add("viewer" + viewer);
+        String today = LocalDate.now(ZoneOffset.UTC).toString();
+        UniqueViewers uniqueViewers = new UniqueViewers();
+        uniqueViewers.setId(String.join(":", "post", today, "other-node"));
+        uniqueViewers.setPostId("post");
+        uniqueViewers.setDay(today);
+        uniqueViewers.setNode("other-node");
+        uniqueViewers.setRegisters(otherNode.toRegisters());
+        uniqueViewersRepository.save(uniqueViewers);
+
+        UniqueViewersResponse uniqueViewersResponse = uniqueViewerService.estimateUniqueViewers("post", 7);
+
+        assertEquals(7, uniqueViewersResponse.getDays().size());
+        assertEquals(today, uniqueViewersResponse.getDays().get(6).getDay());
+        assertTrue(Math.abs(uniqueViewersResponse.getUniqueViewers() - 7_500) <= 3 * uniqueViewersResponse.getStandardError() * 7_500);
+        assertEquals(0, uniqueViewersResponse.getDays().get(0).getUniqueViewers());
+    }
+
+    @Test
+    public void sketchWrittenBeforeVersioning_IsMergedNotOverwrittenTest() {
+        HyperLogLog legacy = new HyperLogLog(12);
+        for (int viewer = 0; viewer < 5_000; viewer++) legacy.add("viewer" + viewer);
+        String today = LocalDate.now(ZoneOffset.UTC).toString();
+        UniqueViewers uniqueViewers = new UniqueViewers();
+        uniqueViewers.setId(String.join(":", "post", today, "test"));
+        uniqueViewers.setPostId("post");
+        uniqueViewers.setDay(today);
+        uniqueViewers.setNode("test");
+        uniqueViewers.setRegisters(legacy.toRegisters());
+        uniqueViewersRepository.save(uniqueViewers);
+
+        for (int viewer = 5_000; viewer < 10_000; viewer++) uniqueViewerService.recordView("post", "viewer" + viewer);
+        uniqueViewerService.flush();
+        for (int viewer = 10_000; viewer < 15_000; viewer++) uniqueViewerService.recordView("post", "viewer" + viewer);
+        uniqueViewerService.flush();
+
+        UniqueViewers persisted = uniqueViewersRepository.findById(uniqueViewers.getId()).orElseThrow();
+        UniqueViewersResponse uniqueViewersResponse = uniqueViewerService.estimateUniqueViewers("post", 1);
+        assertEquals(2, persisted.getVersion());
+        assertEquals(1, uniqueViewersRepository.count());
+        assertTrue(Math.abs(uniqueViewersResponse.getUniqueViewers() - 15_000) <= 3 * uniqueViewersResponse.getStandardError() * 15_000);
+    }
+}
@@ -0,0 +1,110 @@
+package org.truBlog.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.truBlog.data.models.UserSummary;
+import org.truBlog.data.repositories.UserRepository;
+import org.truBlog.dataTransferObjects.requests.RegisterRequest;
+import org.truBlog.exceptions.UserNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class UserLookupServiceImplementationTest {
+
+    @Autowired
+    private UserLookupService userLookupService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String userId;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        userLookupService.invalidate("john123");
+        userLookupService.invalidate("jane123");
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("john");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("john123");
+        registerRequest.setPassword("password");
+        userId = userService.signUp(registerRequest).getId();
+    }
+
+    @Test
+    public void registeredUser_IsFoundWithItsCredentialsTest() {
+        UserSummary userSummary = userLookupService.findUserSummary("john123");
+
+        assertEquals(userId, userSummary.id());
+        assertEquals("john123", userSummary.username());
+        assertTrue(userSummary.password().startsWith("pbkdf2-sha256$"));
+    }
+
+    @Test
+    public void cachedUser_IsServedUntilInvalidatedTest() {
+        userLookupService.findUserSummary("john123");
+        userRepository.deleteById(userId);
+
+        assertEquals(userId, userLookupService.findUserSummary("john123").id());
+
+        userLookupService.invalidate("john123");
+        assertThrows(UserNotFoundException.class, () -> userLookupService.findUserSummary("john123"));
+    }
+
+    @Test
+    public void unknownUser_ThrowsAndIsNotCachedTest() {
+        assertThrows(UserNotFoundException.class, () -> userLookupService.findUserSummary("jane123"));
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("jane");
+        registerRequest.setLastName("doe");
+        registerRequest.setUsername("jane123");
+        registerRequest.setPassword("password");
+        userService.signUp(registerRequest);
+
+        assertEquals("jane123", userLookupService.findUserSummary("jane123").username());
+    }
+
+    @Test
+    public void nullUsername_ThrowsExceptionTest() {
+        assertThrows(UserNotFoundException.class, () -> userLookupService.findUserSummary(null));
+    }
+
+    @Test
+    public void concurrentMisses_ShareOneLoadTest() throws Exception {
+        userLookupService.invalidate("john123");
+        long loadsBefore = summaryLoads();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(16)) {
+            List<Future<UserSummary>> lookups = new ArrayList<>();
+            for (int thread = 0; thread < 16; thread++) lookups.add(executorService.submit(() -> userLookupService.findUserSummary("john123")));
+            for (Future<UserSummary> lookup : lookups) assertEquals(userId, lookup.get().id());
+        }
+
+        assertEquals(loadsBefore + 1, summaryLoads());
+    }
+
+    private long summaryLoads() {
+        long loads = 0;
+        for (Timer timer : meterRegistry.find("spring.data.repository.invocations").tags("method", "findSummaryByUsername").timers()) loads += timer.count();
+        return loads;
+    }
+}
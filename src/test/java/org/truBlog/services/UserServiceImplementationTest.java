@@ -7,13 +7,21 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.truBlog.data.models.User;
 import org.truBlog.data.repositories.CommentRepository;
 import org.truBlog.data.repositories.PostRepository;
+import org.truBlog.data.repositories.PostViewCountRepository;
+import org.truBlog.data.repositories.TimelineRepository;
 import org.truBlog.data.repositories.UserRepository;
 import org.truBlog.data.repositories.ViewRepository;
 import org.truBlog.dataTransferObjects.requests.*;
 import org.truBlog.dataTransferObjects.responses.*;
 import org.truBlog.exceptions.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -35,12 +43,36 @@ public class UserServiceImplementationTest {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private PostViewCountRepository postViewCountRepository;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private ViewWriteBehindService viewWriteBehindService;
+
+    @Autowired
+    private TimelineRepository timelineRepository;
+
+    @Autowired
+    private TimelineService timelineService;
+
+    @Autowired
+    private UserLookupService userLookupService;
+
+    private String token;
+
     @BeforeEach
     public void setUp() {
+        viewWriteBehindService.flush();
         userRepository.deleteAll();
         postRepository.deleteAll();
         viewRepository.deleteAll();
         commentRepository.deleteAll();
+        postViewCountRepository.deleteAll();
+        timelineRepository.deleteAll();
+        timelineService.rebuild();
 
         RegisterRequest registerRequest = new RegisterRequest();
         registerRequest.setFirstName("john");
@@ -48,9 +80,11 @@ public class UserServiceImplementationTest {
         registerRequest.setUsername("john123");
         registerRequest.setPassword("password");
         userService.signUp(registerRequest);
+        token = login("john123");
 
         CreatePostRequest createPostRequest = new CreatePostRequest();
         createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
         createPostRequest.setTitle("the prestige");
         createPostRequest.setContent("magician illusion.");
         userService.createPost(createPostRequest);
@@ -59,6 +93,7 @@ public class UserServiceImplementationTest {
         CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
         commentInPostRequest.setPostId(id);
         commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setToken(token);
         commentInPostRequest.setComment("this is amazing");
         userService.commentInPost(commentInPostRequest);
     }
@@ -140,13 +175,53 @@ public class UserServiceImplementationTest {
         assertThrows(IllegalArgumentException.class, ()->userService.signUp(registerRequest));
     }
 
+    @Test
+    public void userSignsUp_UsernameExistsInDifferentCase_ThrowsExceptionTest(){
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setFirstName("jack");
+        registerRequest.setLastName("smith");
+        registerRequest.setUsername("John123");
+        registerRequest.setPassword("password");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, ()->userService.signUp(registerRequest));
+        assertEquals("Username Exists. Please enter a different username", exception.getMessage());
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    public void concurrentSignUpsWithSameUsername_OnlyOneSucceedsTest() throws Exception {
+        List<Future<RegisterResponse>> responses = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+            for (int count = 0; count < 16; count++) {
+                RegisterRequest registerRequest = new RegisterRequest();
+                registerRequest.setFirstName("jack");
+                registerRequest.setLastName("smith");
+                registerRequest.setUsername(count % 2 == 0 ? "jack123" : "JACK123");
+                registerRequest.setPassword("password");
+                responses.add(executorService.submit(() -> userService.signUp(registerRequest)));
+            }
+        }
+
+        int successes = 0;
+        for (Future<RegisterResponse> response : responses) {
+            try {
+                response.get();
+                successes++;
+            } catch (ExecutionException exception) {
+                assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+            }
+        }
+        assertEquals(1, successes);
+        assertEquals(2, userRepository.count());
+    }
+
     @Test
     public void userCanLogsOutTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("john123");
+        logoutRequest.setToken(token);
         LogoutResponse johnLogoutResponse = userService.logout(logoutRequest);
 
-        assertTrue(userRepository.findByUsername("john123").get().isLocked());
         assertEquals("john123", johnLogoutResponse.getUsername());
     }
 
@@ -155,7 +230,7 @@ public class UserServiceImplementationTest {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jack123");
 
-        assertThrows(UserNotFoundException.class, ()->userService.logout(logoutRequest));
+        assertThrows(ProfileLockStateException.class, ()->userService.logout(logoutRequest));
     }
 
     @Test
@@ -163,9 +238,9 @@ public class UserServiceImplementationTest {
         LogoutRequest logoutRequest = new LogoutRequest();
 
         logoutRequest.setUsername("john123");
+        logoutRequest.setToken(token);
         LogoutResponse johnLogoutResponse = userService.logout(logoutRequest);
 
-        assertTrue(userRepository.findByUsername("john123").get().isLocked());
         assertEquals("john123", johnLogoutResponse.getUsername());
 
         LoginRequest loginRequest = new LoginRequest();
@@ -173,17 +248,92 @@ public class UserServiceImplementationTest {
         loginRequest.setPassword("password");
         LoginResponse johnLoginResponse = userService.login(loginRequest);
 
-        assertFalse(userRepository.findByUsername("john123").get().isLocked());
         assertEquals("john123", johnLoginResponse.getUsername());
+        assertNotEquals(token, johnLoginResponse.getToken());
+
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setTitle("inception");
+        createPostRequest.setContent("dreams within dreams.");
+        createPostRequest.setToken(token);
+        assertThrows(ProfileLockStateException.class, ()->userService.createPost(createPostRequest));
+
+        createPostRequest.setToken(johnLoginResponse.getToken());
+        assertEquals("inception", userService.createPost(createPostRequest).getTitle());
+    }
+
+    @Test
+    public void signedUpPassword_IsStoredHashedTest() {
+        String storedPassword = userRepository.findByUsername("john123").get().getPassword();
+
+        assertNotEquals("password", storedPassword);
+        assertTrue(storedPassword.startsWith("pbkdf2-sha256$"));
+    }
+
+    @Test
+    public void plaintextPassword_IsRehashedOnLoginTest() {
+        User john = userRepository.findByUsername("john123").get();
+        userRepository.updatePassword(john.getId(), "password");
+        userLookupService.invalidate("john123");
+
+        login("john123");
+
+        assertTrue(userRepository.findByUsername("john123").get().getPassword().startsWith("pbkdf2-sha256$"));
+        assertNotNull(login("john123"));
     }
 
+    @Test
+    public void malformedPasswordHash_FailsLoginTest() {
+        User john = userRepository.findByUsername("john123").get();
+        userRepository.updatePassword(john.getId(), "pbkdf2-sha256$many$salt$hash");
+        userLookupService.invalidate("john123");
+
+        assertThrows(InvalidPasswordException.class, () -> login("john123"));
+    }
+
+    @Test
+    public void tamperedToken_IsRejectedTest() {
+        String[] parts = token.split("\\.");
+        String forgedPayload = java.util.Base64.getUrlEncoder().withoutPadding().encodeToString("1:9999999999999:someone:jack123".getBytes());
+
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setTitle("inception");
+        createPostRequest.setContent("dreams within dreams.");
+        createPostRequest.setToken(forgedPayload + "." + parts[1]);
+        assertThrows(ProfileLockStateException.class, ()->userService.createPost(createPostRequest));
+
+        createPostRequest.setToken("not a token");
+        assertThrows(ProfileLockStateException.class, ()->userService.createPost(createPostRequest));
+    }
+
+    @Test
+    public void tokenOfAnotherUser_IsRejectedTest() {
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("jack123");
+        createPostRequest.setTitle("inception");
+        createPostRequest.setContent("dreams within dreams.");
+        createPostRequest.setToken(token);
+
+        assertThrows(ProfileLockStateException.class, ()->userService.createPost(createPostRequest));
+    }
+
+    @Test
+    public void loggedOutToken_CannotLogOutAgainTest() {
+        LogoutRequest logoutRequest = new LogoutRequest();
+        logoutRequest.setToken(token);
+        userService.logout(logoutRequest);
+
+        assertThrows(ProfileLockStateException.class, ()->userService.logout(logoutRequest));
+    }
+
+
     @Test
     public void nonExistentUserLogsIn_ThrowsExceptionTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("john123");
+        logoutRequest.setToken(token);
         LogoutResponse johnLogoutResponse = userService.logout(logoutRequest);
 
-        assertTrue(userRepository.findByUsername("john123").get().isLocked());
         assertEquals("john123", johnLogoutResponse.getUsername());
 
         LoginRequest loginRequest = new LoginRequest();
@@ -196,9 +346,9 @@ public class UserServiceImplementationTest {
     public void userLogsIn_WithIncorrectPassword_ThrowsExceptionTest() {;
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("john123");
+        logoutRequest.setToken(token);
         LogoutResponse johnLogoutResponse = userService.logout(logoutRequest);
 
-        assertTrue(userRepository.findByUsername("john123").get().isLocked());
         assertEquals("john123", johnLogoutResponse.getUsername());
 
         LoginRequest loginRequest = new LoginRequest();
@@ -211,6 +361,7 @@ public class UserServiceImplementationTest {
     public void userCreatesAPostTest() {
         CreatePostRequest createPostRequest = new CreatePostRequest();
         createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
         createPostRequest.setTitle("inception");
         createPostRequest.setContent("dreams within dreams.");
         CreatePostResponse createPostResponse = userService.createPost(createPostRequest);
@@ -231,20 +382,21 @@ public class UserServiceImplementationTest {
         createPostRequest.setTitle("inception");
         createPostRequest.setContent("dreams within dreams.");
 
-        assertThrows(UserNotFoundException.class, ()->userService.createPost(createPostRequest));
+        assertThrows(ProfileLockStateException.class, ()->userService.createPost(createPostRequest));
     }
 
     @Test
     public void userLogsOut_CreatesPost_ThrowsExceptionTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("john123");
+        logoutRequest.setToken(token);
         LogoutResponse johnLogoutResponse = userService.logout(logoutRequest);
 
-        assertTrue(userRepository.findByUsername("john123").get().isLocked());
         assertEquals("john123", johnLogoutResponse.getUsername());
 
         CreatePostRequest createPostRequest = new CreatePostRequest();
         createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
         createPostRequest.setTitle("inception");
         createPostRequest.setContent("dreams within dreams.");
 
@@ -258,6 +410,7 @@ public class UserServiceImplementationTest {
         EditPostRequest editPostRequest = new EditPostRequest();
         editPostRequest.setPostId(id);
         editPostRequest.setUsername("john123");
+        editPostRequest.setToken(token);
         editPostRequest.setEditedTitle("source code");
         editPostRequest.setEditedContent("stop a bomb attack.");
         EditPostResponse editPostResponse = userService.editPost(editPostRequest);
@@ -275,9 +428,9 @@ public class UserServiceImplementationTest {
     public void userLogsOut_EditsPost_ThrowsExceptionTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("john123");
+        logoutRequest.setToken(token);
         LogoutResponse johnLogoutResponse = userService.logout(logoutRequest);
 
-        assertTrue(userRepository.findByUsername("john123").get().isLocked());
         assertEquals("john123", johnLogoutResponse.getUsername());
 
         String id = postRepository.findAll().getFirst().getId();
@@ -285,6 +438,7 @@ public class UserServiceImplementationTest {
         EditPostRequest editPostRequest = new EditPostRequest();
         editPostRequest.setPostId(id);
         editPostRequest.setUsername("john123");
+        editPostRequest.setToken(token);
         editPostRequest.setEditedTitle("source code");
         editPostRequest.setEditedContent("stop a bomb attack.");
 
@@ -308,6 +462,7 @@ public class UserServiceImplementationTest {
         EditPostRequest editPostRequest = new EditPostRequest();
         editPostRequest.setPostId(id);
         editPostRequest.setUsername("jack123");
+        editPostRequest.setToken(login("jack123"));
         editPostRequest.setEditedTitle("source code");
         editPostRequest.setEditedContent("stop a bomb attack.");
 
@@ -319,6 +474,7 @@ public class UserServiceImplementationTest {
         EditPostRequest editPostRequest = new EditPostRequest();
         editPostRequest.setPostId("non existent post Id");
         editPostRequest.setUsername("john123");
+        editPostRequest.setToken(token);
         editPostRequest.setEditedTitle("source code");
         editPostRequest.setEditedContent("stop a bomb attack.");
 
@@ -331,6 +487,7 @@ public class UserServiceImplementationTest {
 
         DeletePostRequest deletePostRequest = new DeletePostRequest();
         deletePostRequest.setUsername("john123");
+        deletePostRequest.setToken(token);
         deletePostRequest.setPostId(id);
         DeletePostResponse deletePostResponse = userService.deletePost(deletePostRequest);
 
@@ -347,6 +504,7 @@ public class UserServiceImplementationTest {
     public void userDeletesNonExistentPostTest() {
         DeletePostRequest deletePostRequest = new DeletePostRequest();
         deletePostRequest.setUsername("john123");
+        deletePostRequest.setToken(token);
         deletePostRequest.setPostId("non existentPost");
 
         assertThrows(PostNotFoundException.class, ()->userService.deletePost(deletePostRequest));
@@ -360,7 +518,7 @@ public class UserServiceImplementationTest {
         deletePostRequest.setUsername("jack123");
         deletePostRequest.setPostId(id);
 
-        assertThrows(UserNotFoundException.class, ()->userService.deletePost(deletePostRequest));
+        assertThrows(ProfileLockStateException.class, ()->userService.deletePost(deletePostRequest));
     }
 
     @Test
@@ -369,13 +527,14 @@ public class UserServiceImplementationTest {
 
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("john123");
+        logoutRequest.setToken(token);
         LogoutResponse johnLogoutResponse = userService.logout(logoutRequest);
 
-        assertTrue(userRepository.findByUsername("john123").get().isLocked());
         assertEquals("john123", johnLogoutResponse.getUsername());
 
         DeletePostRequest deletePostRequest = new DeletePostRequest();
         deletePostRequest.setUsername("john123");
+        deletePostRequest.setToken(token);
         deletePostRequest.setPostId(id);
 
         assertThrows(ProfileLockStateException.class, ()->userService.deletePost(deletePostRequest));
@@ -389,6 +548,7 @@ public class UserServiceImplementationTest {
         viewPostRequest.setId(id);
         viewPostRequest.setUsername("john123");
         ViewPostResponse viewPostResponse = userService.viewPost(viewPostRequest);
+        viewWriteBehindService.flush();
 
         Optional<User> john123 = userRepository.findByUsername("john123");
         assertTrue(john123.isPresent());
@@ -398,6 +558,21 @@ public class UserServiceImplementationTest {
         assertEquals("john123", viewPostResponse.getViewer());
     }
 
+    @Test
+    public void userViewsPost_ViewsAreCountedTest(){
+        String id = postRepository.findAll().getFirst().getId();
+
+        ViewPostRequest viewPostRequest = new ViewPostRequest();
+        viewPostRequest.setId(id);
+        viewPostRequest.setUsername("john123");
+        userService.viewPost(viewPostRequest);
+        viewCountService.flush();
+
+        assertEquals(2, viewCountService.countViews(id));
+        assertEquals(2, postViewCountRepository.findById(id).get().getViewCount());
+        assertEquals(List.of("john123", "john123"), postViewCountRepository.findById(id).get().getRecentViewers());
+    }
+
     @Test
     public void unregisteredUserViewsPostTest(){
         String id = postRepository.findAll().getFirst().getId();
@@ -406,6 +581,7 @@ public class UserServiceImplementationTest {
         viewPostRequest.setId(id);
         viewPostRequest.setUsername(null);
         ViewPostResponse viewPostResponse = userService.viewPost(viewPostRequest);
+        viewWriteBehindService.flush();
 
         Optional<User> john123 = userRepository.findByUsername("john123");
         assertTrue(john123.isPresent());
@@ -432,8 +608,7 @@ public class UserServiceImplementationTest {
 //        logoutRequest.setUsername("john123");
 //        LogoutResponse johnLogoutResponse = userService.logout(logoutRequest);
 //
-//        assertTrue(userRepository.findByUsername("john123").get().isLocked());
-//        assertEquals("john123", johnLogoutResponse.getUsername());
+////        assertEquals("john123", johnLogoutResponse.getUsername());
 //
 //        ViewPostRequest viewPostRequest = new ViewPostRequest();
 //        viewPostRequest.setId(id);
@@ -455,8 +630,10 @@ public class UserServiceImplementationTest {
         CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
         commentInPostRequest.setPostId(id);
         commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setToken(token);
         commentInPostRequest.setComment("this is interesting");
         CommentInPostResponse commentInPostResponse = userService.commentInPost(commentInPostRequest);
+        viewWriteBehindService.flush();
 
         Optional<User> john123 = userRepository.findByUsername("john123");
         assertTrue(john123.isPresent());
@@ -469,6 +646,95 @@ public class UserServiceImplementationTest {
         assertEquals("john123", commentInPostResponse.getCommenterUsername());
     }
 
+    @Test
+    public void concurrentCommentsInPost_AreAllKeptTest() throws Exception {
+        String id = postRepository.findAll().getFirst().getId();
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+            List<Future<CommentInPostResponse>> responses = new ArrayList<>();
+            for (int count = 0; count < 20; count++) {
+                CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
+                commentInPostRequest.setPostId(id);
+                commentInPostRequest.setUsername("john123");
+                commentInPostRequest.setToken(token);
+                commentInPostRequest.setComment("comment " + count);
+                responses.add(executorService.submit(() -> userService.commentInPost(commentInPostRequest)));
+            }
+            for (Future<CommentInPostResponse> response : responses) response.get();
+        }
+
+        assertEquals(21, commentRepository.count());
+        assertEquals(21, postRepository.findById(id).get().getComments().size());
+    }
+
+    @Test
+    public void userReadsPost_CommentsArePagedNewestFirstTest(){
+        String id = postRepository.findAll().getFirst().getId();
+
+        CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
+        commentInPostRequest.setPostId(id);
+        commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setToken(token);
+        commentInPostRequest.setComment("this is interesting");
+        userService.commentInPost(commentInPostRequest);
+        commentInPostRequest.setComment("this is brilliant");
+        userService.commentInPost(commentInPostRequest);
+
+        ReadPostRequest readPostRequest = new ReadPostRequest();
+        readPostRequest.setPostId(id);
+        readPostRequest.setSize(2);
+        ReadPostResponse firstPage = userService.readPost(readPostRequest);
+
+        assertEquals("the prestige", firstPage.getTitle());
+        assertEquals(2, firstPage.getComments().size());
+        assertEquals("this is brilliant", firstPage.getComments().get(0).getComment());
+        assertEquals("this is interesting", firstPage.getComments().get(1).getComment());
+        assertNotNull(firstPage.getNextCursor());
+
+        readPostRequest.setCursor(firstPage.getNextCursor());
+        ReadPostResponse secondPage = userService.readPost(readPostRequest);
+
+        assertEquals(1, secondPage.getComments().size());
+        assertEquals("this is amazing", secondPage.getComments().getFirst().getComment());
+        assertEquals("john123", secondPage.getComments().getFirst().getCommenterUsername());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    public void equivalentPageRequests_ShareOneTagTest(){
+        String id = postRepository.findAll().getFirst().getId();
+
+        ReadPostRequest readPostRequest = new ReadPostRequest();
+        readPostRequest.setPostId(id);
+        String defaultTag = userService.readPostTag(readPostRequest);
+        readPostRequest.setSize(20);
+        assertEquals(defaultTag, userService.readPostTag(readPostRequest));
+
+        readPostRequest.setSize(100);
+        String largestTag = userService.readPostTag(readPostRequest);
+        readPostRequest.setSize(5000);
+        assertEquals(largestTag, userService.readPostTag(readPostRequest));
+    }
+
+    @Test
+    public void invalidCursorIsTagged_ThrowsExceptionTest(){
+        String id = postRepository.findAll().getFirst().getId();
+
+        ReadPostRequest readPostRequest = new ReadPostRequest();
+        readPostRequest.setPostId(id);
+        readPostRequest.setCursor("not a cursor");
+
+        assertThrows(IllegalArgumentException.class, ()->userService.readPostTag(readPostRequest));
+    }
+
+    @Test
+    public void nonExistentPostIsRead_ThrowsExceptionTest(){
+        ReadPostRequest readPostRequest = new ReadPostRequest();
+        readPostRequest.setPostId("non existent post Id");
+
+        assertThrows(PostNotFoundException.class, ()->userService.readPost(readPostRequest));
+    }
+
     @Test
     public void nonExistentUserCommentsOnPostTest(){
         String id = postRepository.findAll().getFirst().getId();
@@ -478,13 +744,14 @@ public class UserServiceImplementationTest {
         commentInPostRequest.setUsername("jack123");
         commentInPostRequest.setComment("this is interesting");
 
-        assertThrows(UserNotFoundException.class, ()->userService.commentInPost(commentInPostRequest));
+        assertThrows(ProfileLockStateException.class, ()->userService.commentInPost(commentInPostRequest));
     }
     @Test
     public void userCommentsOnNonExistentPostTest(){
         CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
         commentInPostRequest.setPostId("non existent post");
         commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setToken(token);
         commentInPostRequest.setComment("this is interesting");
 
         assertThrows(PostNotFoundException.class, ()->userService.commentInPost(commentInPostRequest));
@@ -494,9 +761,9 @@ public class UserServiceImplementationTest {
     public void userLogsOut_CommentsOnPostTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("john123");
+        logoutRequest.setToken(token);
         LogoutResponse johnLogoutResponse = userService.logout(logoutRequest);
 
-        assertTrue(userRepository.findByUsername("john123").get().isLocked());
         assertEquals("john123", johnLogoutResponse.getUsername());
 
         String id = postRepository.findAll().getFirst().getId();
@@ -504,6 +771,7 @@ public class UserServiceImplementationTest {
         CommentInPostRequest commentInPostRequest = new CommentInPostRequest();
         commentInPostRequest.setPostId(id);
         commentInPostRequest.setUsername("john123");
+        commentInPostRequest.setToken(token);
         commentInPostRequest.setComment("this is interesting");
 
         assertThrows(ProfileLockStateException.class, ()->userService.commentInPost(commentInPostRequest));
@@ -516,6 +784,7 @@ public class UserServiceImplementationTest {
 
         DeleteCommentInPostRequest deleteCommentInPostRequest = new DeleteCommentInPostRequest();
         deleteCommentInPostRequest.setUsername("john123");
+        deleteCommentInPostRequest.setToken(token);
         deleteCommentInPostRequest.setPostId(postId);
         deleteCommentInPostRequest.setCommentId(commentId);
         DeleteCommentInPostResponse deleteCommentInPostResponse = userService.deleteCommentInPost(deleteCommentInPostRequest);
@@ -535,7 +804,7 @@ public class UserServiceImplementationTest {
         deleteCommentInPostRequest.setPostId(postId);
         deleteCommentInPostRequest.setCommentId(commentId);
 
-        assertThrows(UserNotFoundException.class, ()->userService.deleteCommentInPost(deleteCommentInPostRequest));
+        assertThrows(ProfileLockStateException.class, ()->userService.deleteCommentInPost(deleteCommentInPostRequest));
     }
 
     @Test
@@ -544,6 +813,7 @@ public class UserServiceImplementationTest {
 
         DeleteCommentInPostRequest deleteCommentInPostRequest = new DeleteCommentInPostRequest();
         deleteCommentInPostRequest.setUsername("john123");
+        deleteCommentInPostRequest.setToken(token);
         deleteCommentInPostRequest.setPostId(postId);
         deleteCommentInPostRequest.setCommentId("non existent comment");
 
@@ -556,9 +826,9 @@ public class UserServiceImplementationTest {
 
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("john123");
+        logoutRequest.setToken(token);
         LogoutResponse johnLogoutResponse = userService.logout(logoutRequest);
 
-        assertTrue(userRepository.findByUsername("john123").get().isLocked());
         assertEquals("john123", johnLogoutResponse.getUsername());
 
         String postId = postRepository.findAll().getFirst().getId();
@@ -566,6 +836,7 @@ public class UserServiceImplementationTest {
 
         DeleteCommentInPostRequest deleteCommentInPostRequest = new DeleteCommentInPostRequest();
         deleteCommentInPostRequest.setUsername("john123");
+        deleteCommentInPostRequest.setToken(token);
         deleteCommentInPostRequest.setPostId(postId);
         deleteCommentInPostRequest.setCommentId(commentId);
 
@@ -573,5 +844,66 @@ public class UserServiceImplementationTest {
 
     }
 
+    @Test
+    public void createdPostsAppearInFeed_NewestFirstTest() {
+        CreatePostRequest createPostRequest = new CreatePostRequest();
+        createPostRequest.setUsername("john123");
+        createPostRequest.setToken(token);
+        createPostRequest.setTitle("inception");
+        createPostRequest.setContent("dreams within dreams.");
+        userService.createPost(createPostRequest);
+
+        FeedResponse feedResponse = userService.readFeed(new ReadFeedRequest());
+
+        assertEquals(2, feedResponse.getEntries().size());
+        assertEquals("inception", feedResponse.getEntries().get(0).getTitle());
+        assertEquals("the prestige", feedResponse.getEntries().get(1).getTitle());
+        assertEquals("john123", feedResponse.getEntries().get(0).getAuthorUsername());
+    }
+
+    @Test
+    public void deletedPostIsTombstonedInFeedTest() {
+        String id = postRepository.findAll().getFirst().getId();
+        DeletePostRequest deletePostRequest = new DeletePostRequest();
+        deletePostRequest.setUsername("john123");
+        deletePostRequest.setToken(token);
+        deletePostRequest.setPostId(id);
+        userService.deletePost(deletePostRequest);
 
-}
\ No newline at end of file
+        assertTrue(userService.readFeed(new ReadFeedRequest()).getEntries().isEmpty());
+        assertTrue(timelineRepository.findById("home").get().getEntries().getFirst().isDeleted());
+    }
+
+    @Test
+    public void editedPostIsRetitledInFeedTest() {
+        String id = postRepository.findAll().getFirst().getId();
+        userService.readFeed(new ReadFeedRequest());
+        EditPostRequest editPostRequest = new EditPostRequest();
+        editPostRequest.setUsername("john123");
+        editPostRequest.setToken(token);
+        editPostRequest.setPostId(id);
+        editPostRequest.setEditedTitle("the prestige, revisited");
+        userService.editPost(editPostRequest);
+
+        assertEquals("the prestige, revisited", userService.readFeed(new ReadFeedRequest()).getEntries().getFirst().getTitle());
+        assertEquals("the prestige, revisited", timelineRepository.findById("home").get().getEntries().getFirst().getTitle());
+    }
+
+    @Test
+    public void timelineIsRebuiltFromPostsTest() {
+        timelineRepository.deleteAll();
+        timelineService.rebuild();
+
+        FeedResponse feedResponse = userService.readFeed(new ReadFeedRequest());
+
+        assertEquals(1, feedResponse.getEntries().size());
+        assertEquals("the prestige", feedResponse.getEntries().getFirst().getTitle());
+    }
+
+    private String login(String username) {
+        LoginRequest loginRequest = new LoginRequest();
+        loginRequest.setUsername(username);
+        loginRequest.setPassword("password");
+        return userService.login(loginRequest).getToken();
+    }
+}
@@ -0,0 +1,73 @@
+package org.truBlog.services;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.truBlog.data.models.View;
+import org.truBlog.data.repositories.ViewRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"trublog.views.write-behind.capacity=16", "trublog.views.write-behind.retry-backoff-ms=1"})
+public class ViewWriteBehindServiceImplementationTest {
+
+    @Autowired
+    private ViewWriteBehindService viewWriteBehindService;
+
+    @Autowired
+    private ViewRepository viewRepository;
+
+    @BeforeEach
+    public void setUp() {
+        assertTrue(viewWriteBehindService.flush());
+        viewRepository.deleteAll();
+    }
+
+    @Test
+    public void concurrentViewsOnAFullQueue_AreAllFlushedTest() throws Exception {
+        try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> producers = new ArrayList<>();
+            for (int producer = 0; producer < 8; producer++) {
+                producers.add(executorService.submit(() -> {
+                    for (int count = 0; count < 100; count++) viewWriteBehindService.enqueue(view(null));
+                }));
+            }
+            for (Future<?> producer : producers) producer.get();
+        }
+
+        assertTrue(viewWriteBehindService.flush());
+        assertEquals(800, viewRepository.count());
+        assertEquals(0, viewWriteBehindService.getQueueDepth());
+    }
+
+    @Test
+    public void failedBatch_IsRetriedInsteadOfLostTest() {
+        View existing = viewRepository.insert(view("65f1c2a9e4b0a1b2c3d4e5f6"));
+        long failedBatches = viewWriteBehindService.getFailedBatches();
+        long droppedViews = viewWriteBehindService.getDroppedViews();
+
+        viewWriteBehindService.enqueue(view(existing.getId()));
+        viewWriteBehindService.enqueue(view(null));
+
+        assertTrue(viewWriteBehindService.flush());
+        assertEquals(2, viewRepository.count());
+        assertTrue(viewWriteBehindService.getFailedBatches() > failedBatches);
+        assertEquals(droppedViews, viewWriteBehindService.getDroppedViews());
+    }
+
+    private static View view(String id) {
+        View view = new View();
+        view.setId(id == null ? new ObjectId().toHexString() : id);
+        view.setPostId("65f1c2a9e4b0a1b2c3d4e5f7");
+        view.setViewer("john123");
+        return view;
+    }
+}
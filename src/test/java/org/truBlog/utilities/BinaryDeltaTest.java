@@ -0,0 +1,88 @@
+package org.truBlog.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryDeltaTest {
+
+    private static final String BASE = "magician illusion. ".repeat(100) + "the pledge, the turn and the prestige.";
+
+    @Test
+    public void smallEdit_ProducesSmallDeltaTest() {
+        String target = BASE.replace("the turn", "the twist");
+
+        byte[] delta = BinaryDelta.diff(bytes(BASE), bytes(target));
+
+        assertTrue(delta.length < 40, String.format("delta of %d bytes", delta.length));
+        assertEquals(target, new String(BinaryDelta.apply(bytes(BASE), delta), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void movedAndRepeatedBlocks_AreCopiedFromBaseTest() {
+        String target = BASE.substring(1000) + "an interlude. " + BASE.substring(0, 1000) + BASE.substring(0, 1000);
+
+        byte[] delta = BinaryDelta.diff(bytes(BASE), bytes(target));
+
+        assertTrue(delta.length < 60, String.format("delta of %d bytes", delta.length));
+        assertEquals(target, new String(BinaryDelta.apply(bytes(BASE), delta), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void randomEdits_RoundTripTest() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            byte[] base = new byte[random.nextInt(2_000)];
+            random.nextBytes(base);
+            byte[] target = mutate(base, random);
+
+            assertArrayEquals(target, BinaryDelta.apply(base, BinaryDelta.diff(base, target)));
+        }
+    }
+
+    @Test
+    public void emptyBaseOrTarget_RoundTripsTest() {
+        assertArrayEquals(bytes(BASE), BinaryDelta.apply(new byte[0], BinaryDelta.diff(new byte[0], bytes(BASE))));
+        assertArrayEquals(new byte[0], BinaryDelta.apply(bytes(BASE), BinaryDelta.diff(bytes(BASE), new byte[0])));
+    }
+
+    @Test
+    public void malformedDelta_IsRejectedAsIllegalArgumentTest() {
+        byte[] base = bytes(BASE);
+        byte[][] malformed = {
+                {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F},
+                {0x04, 0x00, 0x00, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F},
+                {0x04, 0x00, 0x7F, (byte) 0xFF, 0x7F},
+                {0x04, 0x01, 0x05, 'a', 'b'},
+                {0x04, 0x01, (byte) 0xFF, (byte) 0xFF},
+                {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01},
+                {0x04, 0x02}
+        };
+
+        for (byte[] delta : malformed) assertThrows(IllegalArgumentException.class, () -> BinaryDelta.apply(base, delta));
+    }
+
+    private static byte[] mutate(byte[] base, Random random) {
+        byte[] target = base.clone();
+        int edits = random.nextInt(5);
+        for (int edit = 0; edit < edits && target.length > 0; edit++) {
+            int start = random.nextInt(target.length);
+            int length = Math.min(target.length - start, random.nextInt(64));
+            byte[] replacement = new byte[random.nextInt(64)];
+            random.nextBytes(replacement);
+            byte[] next = new byte[target.length - length + replacement.length];
+            System.arraycopy(target, 0, next, 0, start);
+            System.arraycopy(replacement, 0, next, start, replacement.length);
+            System.arraycopy(target, start + length, next, start + replacement.length, target.length - start - length);
+            target = next;
+        }
+        return target;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
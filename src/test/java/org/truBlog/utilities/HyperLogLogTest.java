@@ -0,0 +1,64 @@
+package org.truBlog.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void distinctViewersAreEstimated_WithinThreeStandardErrorsTest() {
+        for (int precision : new int[]{10, 12, 14}) {
+            for (int exactCount : new int[]{10, 1_000, 50_000, 500_000}) {
+                HyperLogLog hyperLogLog = new HyperLogLog(precision);
+                for (int viewer = 0; viewer < exactCount; viewer++) hyperLogLog.add("viewer" + viewer);
+
+                double relativeError = Math.abs(hyperLogLog.estimate() - exactCount) / (double) exactCount;
+
+                assertTrue(relativeError <= 3 * hyperLogLog.standardError(), String.format("precision %d, exact %d, estimate %d", precision, exactCount, hyperLogLog.estimate()));
+            }
+        }
+    }
+
+    @Test
+    public void repeatedViewersAreCountedOnceTest() {
+        HyperLogLog hyperLogLog = new HyperLogLog(12);
+        for (int repeat = 0; repeat < 100; repeat++) {
+            for (int viewer = 0; viewer < 1_000; viewer++) hyperLogLog.add("viewer" + viewer);
+        }
+
+        assertTrue(Math.abs(hyperLogLog.estimate() - 1_000) <= 3 * hyperLogLog.standardError() * 1_000);
+    }
+
+    @Test
+    public void sketchesFromDifferentNodes_MergeIntoTheUnionTest() {
+        HyperLogLog firstNode = new HyperLogLog(12);
+        HyperLogLog secondNode = new HyperLogLog(12);
+        for (int viewer = 0; viewer < 60_000; viewer++) firstNode.add("viewer" + viewer);
+        for (int viewer = 40_000; viewer < 100_000; viewer++) secondNode.add("viewer" + viewer);
+
+        HyperLogLog union = HyperLogLog.union(firstNode, HyperLogLog.fromRegisters(secondNode.toRegisters()));
+
+        assertTrue(Math.abs(union.estimate() - 100_000) <= 3 * union.standardError() * 100_000);
+    }
+
+    @Test
+    public void sketchesOfDifferentPrecision_AreFoldedBeforeMergingTest() {
+        HyperLogLog precise = new HyperLogLog(14);
+        HyperLogLog compact = new HyperLogLog(10);
+        for (int viewer = 0; viewer < 30_000; viewer++) precise.add("viewer" + viewer);
+        for (int viewer = 20_000; viewer < 50_000; viewer++) compact.add("viewer" + viewer);
+
+        HyperLogLog union = HyperLogLog.union(precise, compact);
+
+        assertEquals(10, union.getPrecision());
+        assertTrue(Math.abs(union.estimate() - 50_000) <= 3 * union.standardError() * 50_000);
+    }
+
+    @Test
+    public void precisionOutsideTheSupportedRange_IsRejectedTest() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(17));
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromRegisters(new byte[100]));
+    }
+}